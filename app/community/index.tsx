@@ -46,8 +46,8 @@ export default function CommunityScreen() {
 
   const handleLike = async (id: string) => {
     try {
-      const updated = await api.community.like(id);
-      setPosts(p => p.map(post => post.id === id ? updated : post));
+      const { likeCount } = await api.community.like(id);
+      setPosts(p => p.map(post => post.id === id ? { ...post, likeCount } : post));
     } catch (e) { console.error(e); }
   };
 
@@ -2,7 +2,7 @@ import React, { useEffect, useState } from 'react';
 import { View, Text, ScrollView, TouchableOpacity, StyleSheet, ActivityIndicator, Image } from 'react-native';
 import { useLocalSearchParams, useRouter } from 'expo-router';
 import { Colors } from '@/constants/theme';
-import { api, Course, Lesson } from '@/constants/api';
+import { api, CourseDetail, Lesson } from '@/constants/api';
 import { useAuth } from '@/context/AuthContext';
 import Navbar from '@/components/Navbar';
 
@@ -11,7 +11,7 @@ export default function CourseDetailScreen() {
   const router = useRouter();
   const { isAuthenticated } = useAuth();
 
-  const [course, setCourse] = useState<Course | null>(null);
+  const [course, setCourse] = useState<CourseDetail | null>(null);
   const [lessons, setLessons] = useState<Lesson[]>([]);
   const [isEnrolled, setIsEnrolled] = useState(false);
   const [enrolling, setEnrolling] = useState(false);
@@ -2,7 +2,7 @@ import React, { useEffect, useState } from 'react';
 import { View, Text, FlatList, TouchableOpacity, StyleSheet, Image, ActivityIndicator } from 'react-native';
 import { useRouter } from 'expo-router';
 import { Colors } from '@/constants/theme';
-import { api, Course } from '@/constants/api';
+import { api, CourseSummary } from '@/constants/api';
 import Navbar from '@/components/Navbar';
 
 const LEVELS = ['ALL', 'BEGINNER', 'INTERMEDIATE', 'ADVANCED'] as const;
@@ -10,7 +10,7 @@ type LevelFilter = typeof LEVELS[number];
 
 export default function CoursesScreen() {
   const router = useRouter();
-  const [courses, setCourses] = useState<Course[]>([]);
+  const [courses, setCourses] = useState<CourseSummary[]>([]);
   const [loading, setLoading] = useState(true);
   const [level, setLevel] = useState<LevelFilter>('ALL');
 
@@ -42,6 +42,10 @@ export default function ForumScreen() {
                 <View style={styles.info}>
                   <Text style={styles.name}>{item.name}</Text>
                   <Text style={styles.desc} numberOfLines={2}>{item.description}</Text>
+                  <Text style={styles.stats}>
+                    {item.threadCount} threads · {item.replyCount} replies
+                    {item.lastActivityAt ? ` · active ${new Date(item.lastActivityAt).toLocaleDateString()}` : ''}
+                  </Text>
                 </View>
                 <Text style={styles.arrow}>›</Text>
               </TouchableOpacity>
@@ -65,6 +69,7 @@ const styles = StyleSheet.create({
   info: { flex: 1 },
   name: { color: '#fff', fontSize: 18, fontWeight: '700', marginBottom: 4 },
   desc: { color: '#9CA3AF', fontSize: 14 },
+  stats: { color: '#666', fontSize: 12, marginTop: 6 },
   arrow: { color: '#444', fontSize: 24 },
   empty: { color: '#666', textAlign: 'center', marginTop: 60, fontSize: 16 },
 });
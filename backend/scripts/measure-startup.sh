@@ -0,0 +1,99 @@
+#!/usr/bin/env bash
+# ─── Cold-start benchmark: plain fat jar vs fast-start (AOT + CDS) ───────────
+#
+# Builds with -Pfast-start, prepares the CDS archive exactly as the Dockerfile does, then starts
+# each variant RUNS times against a local Postgres and reports:
+#   ready  — wall clock from exec to the "Started AdsApplication" log line
+#   first  — latency of the first GET /api/courses once ready
+#
+# Usage:  scripts/measure-startup.sh [runs]        (default 5)
+#
+# A throwaway postgres:17-alpine container stands in for Cloud SQL. To use an existing database
+# instead, export JDBC_URL, PSQL_USER and PSQL_PASSWORD. The app is pinned to one CPU (taskset)
+# and a 512 MB RAM ceiling to match the Cloud Run service (--cpu=1 --memory=512Mi).
+# ─────────────────────────────────────────────────────────────────────────────
+set -euo pipefail
+
+RUNS=${1:-5}
+PORT=${PORT:-18081}
+PG_CONTAINER=ads-startup-bench-pg
+
+cd "$(dirname "$0")/.."
+WORK=target/startup-bench
+rm -rf "$WORK" && mkdir -p "$WORK"
+
+cleanup() {
+  [[ -n "${APP_PID:-}" ]] && kill "$APP_PID" 2>/dev/null || true
+  [[ -n "${STARTED_PG:-}" ]] && docker rm -f "$PG_CONTAINER" >/dev/null 2>&1 || true
+}
+trap cleanup EXIT
+
+# ─── Database ────────────────────────────────────────────────────────────────
+
+if [[ -z "${JDBC_URL:-}" ]]; then
+  docker run -d --rm --name "$PG_CONTAINER" -p 55439:5432 \
+    -e POSTGRES_DB=ads -e POSTGRES_USER=ads -e POSTGRES_PASSWORD=ads postgres:17-alpine >/dev/null
+  STARTED_PG=1
+  until docker exec "$PG_CONTAINER" pg_isready -U ads -d ads >/dev/null 2>&1; do sleep 1; done
+  export JDBC_URL=jdbc:postgresql://localhost:55439/ads PSQL_USER=ads PSQL_PASSWORD=ads
+fi
+export JWT_SECRET=${JWT_SECRET:-startup-bench-only-not-a-real-secret-0123456789}
+
+# ─── Build ───────────────────────────────────────────────────────────────────
+
+echo "Building (fast-start profile)..."
+mvn -q -B package -DskipTests -Pfast-start
+JAR=$(ls target/*.jar | grep -v original | head -1)
+EXTRACTED="$WORK/extracted/$(basename "$JAR")"
+
+java -Djarmode=tools -jar "$JAR" extract --destination "$WORK/extracted" >/dev/null
+java -XX:ArchiveClassesAtExit="$WORK/app.jsa" -Dspring.aot.enabled=true -Dspring.context.exit=onRefresh \
+     -Dspring.profiles.active=cds-training -jar "$EXTRACTED" >"$WORK/training.log" 2>&1
+
+# ─── Measure ─────────────────────────────────────────────────────────────────
+
+PIN=()
+command -v taskset >/dev/null && PIN=(taskset -c 0)
+
+now_ms() { date +%s%3N; }
+
+# run <label> <java args...> — one cold start; sets READY_MS and FIRST_MS
+run() {
+  local log="$WORK/$1.log"; shift
+  local t0; t0=$(now_ms)
+  "${PIN[@]}" java -XX:MaxRAM=512m "$@" --server.port="$PORT" --management.server.port=$((PORT + 1)) >"$log" 2>&1 &
+  APP_PID=$!
+  until grep -qs "Started AdsApplication" "$log"; do
+    kill -0 "$APP_PID" 2>/dev/null || { echo "startup failed, see $log" >&2; exit 1; }
+    sleep 0.05
+  done
+  READY_MS=$(( $(now_ms) - t0 ))
+  FIRST_MS=$(curl -s -o /dev/null -w '%{time_total}' "http://localhost:$PORT/api/courses" \
+             | awk '{ printf "%d", $1 * 1000 }')
+  kill "$APP_PID" && wait "$APP_PID" 2>/dev/null || true
+  APP_PID=
+}
+
+median() { sort -n | awk '{ v[NR] = $1 } END { print (NR % 2) ? v[(NR + 1) / 2] : int((v[NR / 2] + v[NR / 2 + 1]) / 2) }'; }
+
+printf '\n%-12s %5s %10s %10s\n' variant run ready_ms first_ms
+for variant in plain fast-start; do
+  : >"$WORK/$variant.results"
+  for i in $(seq 1 "$RUNS"); do
+    if [[ $variant == plain ]]; then
+      run "$variant-$i" -jar "$JAR"
+    else
+      run "$variant-$i" -XX:SharedArchiveFile="$WORK/app.jsa" -Dspring.aot.enabled=true \
+          -jar "$EXTRACTED"
+    fi
+    echo "$READY_MS $FIRST_MS" >>"$WORK/$variant.results"
+    printf '%-12s %5d %10d %10d\n' "$variant" "$i" "$READY_MS" "$FIRST_MS"
+  done
+done
+
+echo
+for variant in plain fast-start; do
+  printf '%-12s median ready %5d ms, first request %4d ms\n' "$variant" \
+    "$(cut -d' ' -f1 "$WORK/$variant.results" | median)" \
+    "$(cut -d' ' -f2 "$WORK/$variant.results" | median)"
+done
@@ -0,0 +1,50 @@
+-- ─── Primary-key insert benchmark: random UUIDv4 vs time-ordered UUIDv7 ─────
+--
+-- Inserts :rows rows into two otherwise identical tables, one keyed by gen_random_uuid() and
+-- one by UUIDv7 (the layout UuidV7Generator produces), then prints the insert time and the size
+-- of each primary-key index. Random keys split pages all over the B-tree and leave them about
+-- half full; v7 keys append to the right-most leaf.
+--
+-- Usage:  psql "$DATABASE_URL" -f scripts/uuid-insert-benchmark.sql              (10M rows)
+--         psql "$DATABASE_URL" -v rows=1000000 -f scripts/uuid-insert-benchmark.sql
+--
+-- Creates and drops uuid_bench_v4 / uuid_bench_v7; run it against a scratch database.
+-- ─────────────────────────────────────────────────────────────────────────────
+
+\if :{?rows}
+\else
+  \set rows 10000000
+\endif
+\timing on
+
+-- Postgres 18 ships uuidv7(); this is the same layout for older servers: the first 48 bits of a
+-- v4 UUID replaced by the Unix time in ms, and the version nibble turned from 4 into 7.
+CREATE OR REPLACE FUNCTION pg_temp.uuid_v7() RETURNS uuid AS $$
+    SELECT encode(set_bit(set_bit(
+               overlay(uuid_send(gen_random_uuid())
+                       PLACING substring(int8send(floor(extract(epoch FROM clock_timestamp()) * 1000)::bigint) FROM 3)
+                       FROM 1 FOR 6),
+               52, 1), 53, 1), 'hex')::uuid
+$$ LANGUAGE sql VOLATILE;
+
+DROP TABLE IF EXISTS uuid_bench_v4, uuid_bench_v7;
+CREATE TABLE uuid_bench_v4 (id uuid PRIMARY KEY, created_at timestamptz NOT NULL DEFAULT now());
+CREATE TABLE uuid_bench_v7 (id uuid PRIMARY KEY, created_at timestamptz NOT NULL DEFAULT now());
+CHECKPOINT;
+
+\echo 'v4 insert'
+INSERT INTO uuid_bench_v4 (id) SELECT gen_random_uuid() FROM generate_series(1, :rows);
+CHECKPOINT;
+
+\echo 'v7 insert'
+INSERT INTO uuid_bench_v7 (id) SELECT pg_temp.uuid_v7() FROM generate_series(1, :rows);
+CHECKPOINT;
+
+\timing off
+SELECT 'v4' AS key, pg_size_pretty(pg_relation_size('uuid_bench_v4_pkey')) AS pk_index,
+       pg_size_pretty(pg_relation_size('uuid_bench_v4')) AS heap
+UNION ALL
+SELECT 'v7', pg_size_pretty(pg_relation_size('uuid_bench_v7_pkey')),
+       pg_size_pretty(pg_relation_size('uuid_bench_v7'));
+
+DROP TABLE uuid_bench_v4, uuid_bench_v7;
@@ -0,0 +1,101 @@
+package com.codenestai.ads.config;
+
+import com.codenestai.ads.security.JwtClaims;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+@Configuration
+public class CacheConfig {
+
+    /** Authenticated {@link com.codenestai.ads.model.User} principals, keyed by user id */
+    public static final String PRINCIPALS = "principals";
+
+    /** Verified {@link JwtClaims}, keyed by the SHA-256 of the raw token */
+    public static final String VERIFIED_TOKENS = "verifiedTokens";
+
+    /** Published catalog pages (offset and cursor), keyed by the listing method's arguments */
+    public static final String CATALOG = "catalog";
+
+    /** {@link com.codenestai.ads.dto.course.CourseDetailDTO} by slug */
+    public static final String COURSE_DETAILS = "courseDetails";
+
+    /** The forum category list with its stats (a single entry) */
+    public static final String FORUM_CATEGORIES = "forumCategories";
+
+    /**
+     * Every cache is declared here with its own bound — unknown cache names fail fast.
+     * Evictions issued inside a transaction are deferred until it commits, so a
+     * concurrent reader cannot re-cache the row we are about to overwrite.
+     */
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${cache.principals.max-size:10000}") long principalsMaxSize,
+            @Value("${cache.principals.ttl:5m}") Duration principalsTtl,
+            @Value("${cache.verified-tokens.max-size:50000}") long tokensMaxSize,
+            @Value("${cache.verified-tokens.ttl:15m}") Duration tokensTtl,
+            @Value("${cache.catalog.max-size:500}") long catalogMaxSize,
+            @Value("${cache.catalog.ttl:10m}") Duration catalogTtl,
+            @Value("${cache.forum-categories.ttl:10m}") Duration forumCategoriesTtl) {
+        CaffeineCacheManager manager = new CaffeineCacheManager();
+        manager.setCacheNames(List.of());
+        manager.registerCustomCache(PRINCIPALS, Caffeine.newBuilder()
+                .maximumSize(principalsMaxSize)
+                .expireAfterWrite(principalsTtl)
+                .recordStats()
+                .build());
+        manager.registerCustomCache(VERIFIED_TOKENS, Caffeine.newBuilder()
+                .maximumSize(tokensMaxSize)
+                .expireAfter(new TokenExpiry(tokensTtl))
+                .recordStats()
+                .build());
+        // Both catalog caches are cleared together whenever a course or lesson write commits
+        manager.registerCustomCache(CATALOG, Caffeine.newBuilder()
+                .maximumSize(catalogMaxSize)
+                .expireAfterWrite(catalogTtl)
+                .recordStats()
+                .build());
+        manager.registerCustomCache(COURSE_DETAILS, Caffeine.newBuilder()
+                .maximumSize(catalogMaxSize)
+                .expireAfterWrite(catalogTtl)
+                .recordStats()
+                .build());
+        // Cleared whenever a thread or reply write commits, so the counters are never served stale
+        manager.registerCustomCache(FORUM_CATEGORIES, Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(forumCategoriesTtl)
+                .recordStats()
+                .build());
+        return new TransactionAwareCacheManagerProxy(manager);
+    }
+
+    /** Expires a verified token at the earlier of its own {@code exp} and the configured TTL */
+    private record TokenExpiry(Duration ttl) implements Expiry<Object, Object> {
+
+        @Override
+        public long expireAfterCreate(Object key, Object value, long currentTime) {
+            if (!(value instanceof JwtClaims claims)) return ttl.toNanos();
+            long untilExp = Duration.between(Instant.now(), claims.expiresAt()).toNanos();
+            return Math.max(0, Math.min(ttl.toNanos(), untilExp));
+        }
+
+        @Override
+        public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.codenestai.ads.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import java.sql.Connection;
+
+/**
+ * The application's single {@code DataSource}: the primary Hikari pool behind a
+ * {@link LazyConnectionDataSourceProxy}. Connections are only fetched at the first statement, by
+ * which point the transaction's read-only flag is known, so {@code @Transactional(readOnly = true)}
+ * work goes to the replica pool when {@code read-replica.url} is set and to the primary otherwise.
+ * The replica is decided at runtime (not with a condition) so AOT builds keep it optional.
+ */
+@Configuration
+@Slf4j
+public class DataSourceConfig {
+
+    @Bean
+    public ReadWriteDataSource dataSource(
+            DataSourceProperties properties,
+            Environment environment,
+            MeterRegistry meterRegistry,
+            @Value("${read-replica.url:}") String replicaUrl,
+            @Value("${read-replica.username:}") String replicaUsername,
+            @Value("${read-replica.password:}") String replicaPassword) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+
+        HikariDataSource replica = null;
+        if (!replicaUrl.isBlank()) {
+            replica = new HikariDataSource();
+            primary.copyStateTo(replica);   // same pool sizing and timeouts as the primary
+            replica.setPoolName("replica");
+            replica.setJdbcUrl(replicaUrl);
+            if (!replicaUsername.isBlank()) replica.setUsername(replicaUsername);
+            if (!replicaPassword.isBlank()) replica.setPassword(replicaPassword);
+            replica.setMetricRegistry(meterRegistry);
+            log.info("Read-only transactions are routed to the read replica");
+        }
+        return new ReadWriteDataSource(primary, replica);
+    }
+
+    /** Closes both pools on shutdown; Spring infers {@code close} as the destroy method */
+    public static class ReadWriteDataSource extends LazyConnectionDataSourceProxy implements AutoCloseable {
+
+        private final HikariDataSource primary;
+        private final HikariDataSource replica;
+
+        ReadWriteDataSource(HikariDataSource primary, HikariDataSource replica) {
+            super(primary);
+            this.primary = primary;
+            this.replica = replica;
+            // Hikari's defaults — set up front so the proxy never opens a connection just to ask
+            setDefaultAutoCommit(true);
+            setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+            if (replica != null) setReadOnlyDataSource(replica);
+        }
+
+        @Override
+        public void close() {
+            if (replica != null) replica.close();
+            primary.close();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.codenestai.ads.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Schema migrations from {@code db/migration} run before Hibernate validates the mappings.
+ * {@code spring.flyway.enabled} is re-checked here at runtime: in an AOT-processed build the
+ * auto-configuration's own condition was fixed at build time, and the CDS training run must be
+ * able to start without a database.
+ */
+@Configuration
+public class FlywayConfig {
+
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(
+            @Value("${spring.flyway.enabled:true}") boolean enabled) {
+        return flyway -> {
+            if (enabled) flyway.migrate();
+        };
+    }
+}
@@ -0,0 +1,45 @@
+package com.codenestai.ads.config;
+
+import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
+import com.google.api.client.googleapis.auth.oauth2.GoogleOAuthConstants;
+import com.google.api.client.googleapis.auth.oauth2.GooglePublicKeysManager;
+import com.google.api.client.http.HttpTransport;
+import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.api.client.json.gson.GsonFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * One shared Google ID token verifier for the whole app, so its public-key cache survives
+ * between logins. Point {@code oauth.google.certs-url} at a local server (or override the
+ * {@link GooglePublicKeysManager} bean) to verify against fake keys in tests.
+ */
+@Configuration
+public class GoogleAuthConfig {
+
+    @Bean
+    public HttpTransport googleHttpTransport() {
+        return new NetHttpTransport();
+    }
+
+    @Bean
+    public GooglePublicKeysManager googlePublicKeysManager(
+            HttpTransport googleHttpTransport,
+            @Value("${oauth.google.certs-url:" + GoogleOAuthConstants.DEFAULT_PUBLIC_CERTS_ENCODED_URL + "}") String certsUrl) {
+        return new GooglePublicKeysManager.Builder(googleHttpTransport, GsonFactory.getDefaultInstance())
+                .setPublicCertsEncodedUrl(certsUrl)
+                .build();
+    }
+
+    @Bean
+    public GoogleIdTokenVerifier googleIdTokenVerifier(
+            GooglePublicKeysManager googlePublicKeysManager,
+            @Value("${oauth.google.client-id:not-configured}") String clientId) {
+        return new GoogleIdTokenVerifier.Builder(googlePublicKeysManager)
+                .setAudience(List.of(clientId))
+                .build();
+    }
+}
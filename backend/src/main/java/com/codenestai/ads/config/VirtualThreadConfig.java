@@ -0,0 +1,28 @@
+package com.codenestai.ads.config;
+
+import org.apache.coyote.ProtocolHandler;
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hands Tomcat's request handling to virtual threads when {@code spring.threads.virtual.enabled}
+ * is set. Spring Boot's own switch is a condition, which an AOT-processed build fixes at build
+ * time; this is re-checked at runtime, like {@link VirtualThreadPinningMonitor}, so
+ * {@code VIRTUAL_THREADS_ENABLED} means the same thing on the plain and the fast-start image.
+ */
+@Configuration
+public class VirtualThreadConfig {
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<ProtocolHandler> virtualThreadRequestHandling(
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreadsEnabled) {
+        return protocolHandler -> {
+            if (virtualThreadsEnabled) {
+                protocolHandler.setExecutor(new VirtualThreadExecutor("tomcat-handler-"));
+            }
+        };
+    }
+}
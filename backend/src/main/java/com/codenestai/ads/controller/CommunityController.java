@@ -1,5 +1,7 @@
 package com.codenestai.ads.controller;
 
+import com.codenestai.ads.dto.CursorPage;
+import com.codenestai.ads.dto.PageCursor;
 import com.codenestai.ads.model.Post;
 import com.codenestai.ads.model.PostComment;
 import com.codenestai.ads.model.User;
@@ -12,7 +14,9 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.util.Map;
 import java.util.UUID;
 
 @RestController
@@ -31,11 +35,22 @@ public class CommunityController {
                 : communityService.getPosts(pageable));
     }
 
+    /** Cursor mode, newest first — {@code ?after=} (empty for the first page) */
+    @GetMapping(value = "/posts", params = "after")
+    public ResponseEntity<CursorPage<Post>> feed(
+            @RequestParam String after,
+            @RequestParam(required = false) Post.PostType type,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(communityService.getFeed(
+                type, PageCursor.decode(after, true), CursorPage.limit(size)));
+    }
+
     @GetMapping("/posts/{id}")
-    public ResponseEntity<Post> getPost(@PathVariable UUID id) {
-        return communityService.getPost(id)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<Post> getPost(@PathVariable UUID id, WebRequest request) {
+        return ConditionalGet.respond(request, communityService.getPostVersion(id).orElse(null), ConditionalGet.REVALIDATE,
+                () -> communityService.getPost(id)
+                        .map(ResponseEntity::ok)
+                        .orElse(ResponseEntity.notFound().build()));
     }
 
     @PostMapping("/posts")
@@ -61,8 +76,8 @@ public class CommunityController {
     }
 
     @PostMapping("/posts/{id}/like")
-    public ResponseEntity<Post> likePost(@PathVariable UUID id) {
-        return ResponseEntity.ok(communityService.likePost(id));
+    public ResponseEntity<Map<String, Object>> likePost(@PathVariable UUID id, @AuthenticationPrincipal User user) {
+        return ResponseEntity.ok(Map.of("likeCount", communityService.likePost(id, user)));
     }
 
     @PostMapping("/posts/{id}/comments")
@@ -0,0 +1,46 @@
+package com.codenestai.ads.controller;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Strong ETags for public GETs. The caller passes a cheap version string (timestamps and
+ * counters, not the body); a matching {@code If-None-Match} is answered with 304 before the
+ * body is loaded or serialized.
+ */
+final class ConditionalGet {
+
+    /** Catalog data changes a few times a day — let shared caches serve it briefly */
+    static final CacheControl CATALOG = CacheControl.maxAge(Duration.ofMinutes(1)).cachePublic();
+
+    /** Fast-moving counters — storable, but always revalidated */
+    static final CacheControl REVALIDATE = CacheControl.noCache().cachePublic();
+
+    private ConditionalGet() {}
+
+    static <T> ResponseEntity<T> respond(WebRequest request, String version, CacheControl cacheControl,
+                                         Supplier<ResponseEntity<T>> load) {
+        if (version == null) return load.get();
+
+        String etag = "\"" + DigestUtils.md5DigestAsHex(version.getBytes(StandardCharsets.UTF_8)) + "\"";
+        if (request.checkNotModified(etag)) {
+            // checkNotModified has already written the ETag header
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(cacheControl).build();
+        }
+
+        ResponseEntity<T> response = load.get();
+        if (!response.getStatusCode().is2xxSuccessful()) return response;
+        return ResponseEntity.status(response.getStatusCode())
+                .headers(response.getHeaders())
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .body(response.getBody());
+    }
+}
@@ -1,5 +1,9 @@
 package com.codenestai.ads.controller;
 
+import com.codenestai.ads.dto.CursorPage;
+import com.codenestai.ads.dto.PageCursor;
+import com.codenestai.ads.dto.course.CourseDetailDTO;
+import com.codenestai.ads.dto.course.CourseSummaryDTO;
 import com.codenestai.ads.model.Course;
 import com.codenestai.ads.model.Lesson;
 import com.codenestai.ads.model.User;
@@ -13,6 +17,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -25,7 +30,7 @@ public class CourseController {
     private final CourseService courseService;
 
     @GetMapping
-    public ResponseEntity<Page<Course>> listCourses(
+    public ResponseEntity<Page<CourseSummaryDTO>> listCourses(
             @RequestParam(required = false) Course.Level level,
             @PageableDefault(size = 20, sort = "createdAt") Pageable pageable) {
         return ResponseEntity.ok(level != null
@@ -33,18 +38,31 @@ public class CourseController {
                 : courseService.getPublishedCourses(pageable));
     }
 
+    /** Cursor mode — {@code ?after=} (empty for the first page) seeks instead of counting and offsetting */
+    @GetMapping(params = "after")
+    public ResponseEntity<CursorPage<CourseSummaryDTO>> listCoursesAfter(
+            @RequestParam String after,
+            @RequestParam(required = false) Course.Level level,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(courseService.getPublishedCoursesAfter(
+                level, PageCursor.decode(after, false), CursorPage.limit(size)));
+    }
+
+    /** Served from the catalog cache; a matching ETag is answered from the version query alone */
     @GetMapping("/{slug}")
-    public ResponseEntity<Course> getCourse(@PathVariable String slug) {
-        return courseService.getCourseBySlug(slug)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<CourseDetailDTO> getCourse(@PathVariable String slug, WebRequest request) {
+        return ConditionalGet.respond(request, courseService.getCourseVersion(slug).orElse(null), ConditionalGet.CATALOG,
+                () -> courseService.getCourseDetail(slug)
+                        .map(ResponseEntity::ok)
+                        .orElse(ResponseEntity.notFound().build()));
     }
 
     @GetMapping("/{id}/lessons")
-    public ResponseEntity<List<Lesson>> getLessons(@PathVariable UUID id) {
-        return courseService.getCourseById(id)
-                .map(course -> ResponseEntity.ok(courseService.getLessonsForCourse(course)))
-                .orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<List<Lesson>> getLessons(@PathVariable UUID id, WebRequest request) {
+        return ConditionalGet.respond(request, courseService.getLessonsVersion(id).orElse(null), ConditionalGet.CATALOG,
+                () -> courseService.getCourseById(id)
+                        .map(course -> ResponseEntity.ok(courseService.getLessonsForCourse(course)))
+                        .orElse(ResponseEntity.notFound().build()));
     }
 
     @PostMapping
@@ -71,10 +89,7 @@ public class CourseController {
             @PathVariable UUID id,
             @RequestBody Lesson lesson,
             @AuthenticationPrincipal User user) {
-        Course course = courseService.getCourseById(id)
-                .orElseThrow(() -> new IllegalArgumentException("Course not found"));
-        lesson.setCourse(course);
-        return ResponseEntity.status(HttpStatus.CREATED).body(courseService.addLesson(lesson));
+        return ResponseEntity.status(HttpStatus.CREATED).body(courseService.addLesson(id, lesson));
     }
 
     @PutMapping("/lessons/{lessonId}")
@@ -86,6 +101,15 @@ public class CourseController {
         return ResponseEntity.ok(courseService.updateLesson(lessonId, details, user));
     }
 
+    @DeleteMapping("/lessons/{lessonId}")
+    @PreAuthorize("hasAnyRole('INSTRUCTOR', 'ADMIN')")
+    public ResponseEntity<Void> deleteLesson(
+            @PathVariable UUID lessonId,
+            @AuthenticationPrincipal User user) {
+        courseService.deleteLesson(lessonId, user);
+        return ResponseEntity.noContent().build();
+    }
+
     @GetMapping("/my")
     @PreAuthorize("hasAnyRole('INSTRUCTOR', 'ADMIN')")
     public ResponseEntity<List<Course>> myCourses(@AuthenticationPrincipal User user) {
@@ -34,10 +34,8 @@ public class EnrollmentController {
             @RequestParam(required = false) String paymentIntentId,
             @AuthenticationPrincipal User user) {
 
-        Course course = courseService.getCourseById(courseId)
-                .orElseThrow(() -> new IllegalArgumentException("Course not found"));
         return ResponseEntity.status(HttpStatus.CREATED)
-                .body(enrollmentService.enroll(user, course, paymentIntentId));
+                .body(enrollmentService.enroll(user, courseId, paymentIntentId));
     }
 
     /** Check enrollment status for a specific course */
@@ -58,39 +56,29 @@ public class EnrollmentController {
             @PathVariable UUID enrollmentId,
             @AuthenticationPrincipal User user) {
 
-        Enrollment enrollment = enrollmentService.getUserEnrollments(user).stream()
-                .filter(e -> e.getId().equals(enrollmentId))
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("Enrollment not found"));
+        Enrollment enrollment = enrollmentService.getOwnEnrollment(enrollmentId, user);
 
-        List<LessonProgress> progress = enrollmentService.getProgress(enrollment);
-        int percent = enrollmentService.getCompletionPercent(enrollment);
+        List<UUID> completedLessons = enrollmentService.getCompletedLessonIds(enrollment);
 
         return ResponseEntity.ok(Map.of(
-                "completionPercent", percent,
-                "completedLessons", progress.stream().map(p -> p.getLesson().getId()).toList(),
+                "completionPercent", enrollmentService.getCompletionPercent(enrollment),
+                "completedLessons", completedLessons,
                 "status", enrollment.getStatus()
         ));
     }
 
     /** Mark a lesson as complete */
     @PostMapping("/{enrollmentId}/lessons/{lessonId}/complete")
-    public ResponseEntity<LessonProgress> markComplete(
+    public ResponseEntity<Map<String, Object>> markComplete(
             @PathVariable UUID enrollmentId,
             @PathVariable UUID lessonId,
             @AuthenticationPrincipal User user) {
 
-        Enrollment enrollment = enrollmentService.getUserEnrollments(user).stream()
-                .filter(e -> e.getId().equals(enrollmentId))
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("Enrollment not found"));
-
-        Lesson lesson = courseService.getLessonsForCourse(enrollment.getCourse()).stream()
-                .filter(l -> l.getId().equals(lessonId))
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("Lesson not found in this course"));
-
-        return ResponseEntity.ok(enrollmentService.markLessonComplete(enrollment, lesson));
+        int percent = enrollmentService.markLessonComplete(enrollmentId, user, lessonId);
+        return ResponseEntity.ok(Map.of(
+                "lessonId", lessonId,
+                "completionPercent", percent
+        ));
     }
 
     /** Cancel an enrollment */
@@ -1,5 +1,7 @@
 package com.codenestai.ads.controller;
 
+import com.codenestai.ads.dto.CursorPage;
+import com.codenestai.ads.dto.PageCursor;
 import com.codenestai.ads.model.*;
 import com.codenestai.ads.service.ForumService;
 import lombok.RequiredArgsConstructor;
@@ -11,8 +13,10 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @RestController
@@ -25,8 +29,9 @@ public class ForumController {
     // ─── Categories ───────────────────────────────────────────────────────────
 
     @GetMapping("/categories")
-    public ResponseEntity<List<ForumCategory>> getCategories() {
-        return ResponseEntity.ok(forumService.getCategories());
+    public ResponseEntity<List<ForumCategory>> getCategories(WebRequest request) {
+        return ConditionalGet.respond(request, forumService.getCategoriesVersion().orElse(null), ConditionalGet.REVALIDATE,
+                () -> ResponseEntity.ok(forumService.getCategories()));
     }
 
     @PostMapping("/categories")
@@ -38,19 +43,32 @@ public class ForumController {
 
     // ─── Threads ──────────────────────────────────────────────────────────────
 
+    /** Pinned first, then most recent activity */
     @GetMapping("/categories/{slug}/threads")
     public ResponseEntity<Page<ForumThread>> getThreads(
             @PathVariable String slug,
-            @PageableDefault(size = 20, sort = "isPinned,lastActivityAt") Pageable pageable) {
+            @PageableDefault(size = 20) Pageable pageable) {
         return forumService.getCategoryBySlug(slug)
                 .map(cat -> ResponseEntity.ok(forumService.getThreadsByCategory(cat, pageable)))
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    /** Cursor mode, pinned first then most recent activity — {@code ?after=} (empty for the first page) */
+    @GetMapping(value = "/categories/{slug}/threads", params = "after")
+    public ResponseEntity<CursorPage<ForumThread>> getThreadsAfter(
+            @PathVariable String slug,
+            @RequestParam String after,
+            @RequestParam(defaultValue = "20") int size) {
+        return forumService.getCategoryBySlug(slug)
+                .map(cat -> ResponseEntity.ok(forumService.getThreadsByCategoryAfter(
+                        cat, PageCursor.decode(after, true), CursorPage.limit(size))))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     @GetMapping("/threads/{id}")
     public ResponseEntity<ForumThread> getThread(@PathVariable UUID id) {
         return forumService.getThread(id).map(thread -> {
-            forumService.incrementViewCount(thread);
+            forumService.recordView(thread.getId());
             return ResponseEntity.ok(thread);
         }).orElse(ResponseEntity.notFound().build());
     }
@@ -60,11 +78,8 @@ public class ForumController {
             @PathVariable String slug,
             @RequestBody ForumThread thread,
             @AuthenticationPrincipal User user) {
-        ForumCategory category = forumService.getCategoryBySlug(slug)
-                .orElseThrow(() -> new IllegalArgumentException("Category not found"));
-        thread.setCategory(category);
         thread.setAuthor(user);
-        return ResponseEntity.status(HttpStatus.CREATED).body(forumService.createThread(thread));
+        return ResponseEntity.status(HttpStatus.CREATED).body(forumService.createThread(slug, thread));
     }
 
     @DeleteMapping("/threads/{id}")
@@ -100,15 +115,25 @@ public class ForumController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    /** Cursor mode, oldest first — {@code ?after=} (empty for the first page) */
+    @GetMapping(value = "/threads/{id}/replies", params = "after")
+    public ResponseEntity<CursorPage<ForumReply>> getRepliesAfter(
+            @PathVariable UUID id,
+            @RequestParam String after,
+            @RequestParam(defaultValue = "50") int size) {
+        return forumService.getThread(id)
+                .map(thread -> ResponseEntity.ok(forumService.getRepliesAfter(
+                        thread, PageCursor.decode(after, false), CursorPage.limit(size))))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     @PostMapping("/threads/{id}/replies")
     public ResponseEntity<ForumReply> addReply(
             @PathVariable UUID id,
             @RequestBody ForumReply reply,
             @AuthenticationPrincipal User user) {
-        ForumThread thread = forumService.getThread(id)
-                .orElseThrow(() -> new IllegalArgumentException("Thread not found"));
         reply.setAuthor(user);
-        return ResponseEntity.status(HttpStatus.CREATED).body(forumService.addReply(thread, reply));
+        return ResponseEntity.status(HttpStatus.CREATED).body(forumService.addReply(id, reply));
     }
 
     @PostMapping("/replies/{id}/accept")
@@ -118,6 +143,13 @@ public class ForumController {
         return ResponseEntity.ok(forumService.markAccepted(id, user));
     }
 
+    @PostMapping("/replies/{id}/like")
+    public ResponseEntity<Map<String, Object>> likeReply(
+            @PathVariable UUID id,
+            @AuthenticationPrincipal User user) {
+        return ResponseEntity.ok(Map.of("likeCount", forumService.likeReply(id, user)));
+    }
+
     @DeleteMapping("/replies/{id}")
     public ResponseEntity<Void> deleteReply(
             @PathVariable UUID id,
@@ -0,0 +1,30 @@
+package com.codenestai.ads.controller;
+
+import com.codenestai.ads.dto.CursorPage;
+import com.codenestai.ads.dto.search.SearchCursor;
+import com.codenestai.ads.dto.search.SearchHit;
+import com.codenestai.ads.service.SearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final SearchService searchService;
+
+    /** Ranked search across courses, posts and threads — {@code ?q=&types=COURSE,POST&after=} */
+    @GetMapping
+    public ResponseEntity<CursorPage<SearchHit>> search(
+            @RequestParam String q,
+            @RequestParam(required = false) Set<SearchHit.Type> types,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(searchService.search(
+                q, types, SearchCursor.decode(after), CursorPage.limit(size).getPageSize()));
+    }
+}
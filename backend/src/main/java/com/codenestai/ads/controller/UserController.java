@@ -4,6 +4,7 @@ import com.codenestai.ads.dto.auth.UpdateProfileRequest;
 import com.codenestai.ads.dto.auth.UserDTO;
 import com.codenestai.ads.model.User;
 import com.codenestai.ads.repository.UserRepository;
+import com.codenestai.ads.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -20,6 +21,7 @@ import java.util.UUID;
 public class UserController {
 
     private final UserRepository userRepository;
+    private final UserService userService;
 
     /** Current user's profile */
     @GetMapping("/me")
@@ -27,22 +29,16 @@ public class UserController {
         return ResponseEntity.ok(UserDTO.from(user));
     }
 
-    /** Update current user's profile (firstName, lastName, bio, avatarUrl) */
+    /**
+     * Update current user's profile (firstName, lastName, bio, avatarUrl). Edits a freshly loaded
+     * copy: the principal is shared with concurrent requests through the principal cache.
+     */
     @PutMapping("/me")
     public ResponseEntity<UserDTO> updateMe(
-            @AuthenticationPrincipal User user,
+            @AuthenticationPrincipal User principal,
             @Valid @RequestBody UpdateProfileRequest req) {
-
-        if (req.getFirstName() != null && !req.getFirstName().isBlank())
-            user.setFirstName(req.getFirstName());
-        if (req.getLastName() != null && !req.getLastName().isBlank())
-            user.setLastName(req.getLastName());
-        if (req.getBio() != null)
-            user.setBio(req.getBio().isBlank() ? null : req.getBio());
-        if (req.getAvatarUrl() != null)
-            user.setAvatarUrl(req.getAvatarUrl().isBlank() ? null : req.getAvatarUrl());
-
-        User saved = userRepository.save(user);
+        User saved = userService.updateProfile(principal.getId(), req)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found"));
         return ResponseEntity.ok(UserDTO.from(saved));
     }
 
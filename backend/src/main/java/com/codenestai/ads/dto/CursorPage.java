@@ -0,0 +1,38 @@
+package com.codenestai.ads.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated listing. Pass {@code nextCursor} back as {@code ?after=} to
+ * fetch the following page; it is null once {@code hasNext} is false.
+ */
+@Data
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    private static final int MAX_SIZE = 100;
+
+    private List<T> content;
+    private String nextCursor;
+    private boolean hasNext;
+
+    /** Unsorted limit for a seek query — the ordering lives in the query itself */
+    public static Pageable limit(int size) {
+        return PageRequest.ofSize(Math.clamp(size, 1, MAX_SIZE));
+    }
+
+    public static <T> CursorPage<T> of(Slice<T> slice, Function<T, PageCursor> cursorOf) {
+        List<T> content = slice.getContent();
+        String next = slice.hasNext() && !content.isEmpty()
+                ? cursorOf.apply(content.get(content.size() - 1)).encode()
+                : null;
+        return new CursorPage<>(content, next, slice.hasNext());
+    }
+}
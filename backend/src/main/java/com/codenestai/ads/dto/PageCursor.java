@@ -0,0 +1,47 @@
+package com.codenestai.ads.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque seek position for keyset pagination: the sort key of the last row on the previous
+ * page. {@code pinned} is only used by listings that sort pinned rows first.
+ *
+ * <p>An empty {@code ?after=} starts from the beginning; {@link #start} returns a position that
+ * sorts before every real row so each listing needs only one seek query.
+ */
+public record PageCursor(boolean pinned, Instant at, UUID id) {
+
+    private static final Instant MIN_AT = Instant.EPOCH;
+    private static final Instant MAX_AT = Instant.parse("9999-12-31T23:59:59Z");
+    private static final UUID MIN_ID = new UUID(0L, 0L);
+    private static final UUID MAX_ID = new UUID(-1L, -1L);
+
+    public static PageCursor of(Instant at, UUID id) {
+        return new PageCursor(false, at, id);
+    }
+
+    public static PageCursor start(boolean descending) {
+        return descending
+                ? new PageCursor(true, MAX_AT, MAX_ID)
+                : new PageCursor(false, MIN_AT, MIN_ID);
+    }
+
+    /** Decodes a client-supplied cursor, or returns {@link #start} when it is blank */
+    public static PageCursor decode(String raw, boolean descending) {
+        if (raw == null || raw.isBlank()) return start(descending);
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(raw), StandardCharsets.UTF_8).split("\\|");
+            return new PageCursor("1".equals(parts[0]), Instant.parse(parts[1]), UUID.fromString(parts[2]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = (pinned ? "1" : "0") + "|" + at + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
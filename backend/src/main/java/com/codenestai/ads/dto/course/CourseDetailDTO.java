@@ -0,0 +1,59 @@
+package com.codenestai.ads.dto.course;
+
+import com.codenestai.ads.model.Course;
+import com.codenestai.ads.model.User;
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/** Course page — detached from the session so it can be cached and serialized without lazy loads */
+@Data
+@Builder
+public class CourseDetailDTO {
+    private UUID id;
+    private String slug;
+    private String title;
+    private String description;
+    private String shortDescription;
+    private String thumbnailUrl;
+    private String previewVideoUrl;
+    private BigDecimal price;
+    private String currency;
+    private Course.Level level;
+    private Course.Status status;
+    private Integer durationMinutes;
+    private Integer totalLessons;
+    private Instructor instructor;
+    private Instant createdAt;
+    private Instant updatedAt;
+
+    /** Public instructor profile — deliberately no email or role */
+    @Data
+    @Builder
+    public static class Instructor {
+        private UUID id;
+        private String firstName;
+        private String lastName;
+        private String avatarUrl;
+        private String bio;
+    }
+
+    public static CourseDetailDTO from(Course c) {
+        User i = c.getInstructor();
+        return CourseDetailDTO.builder()
+                .id(c.getId()).slug(c.getSlug()).title(c.getTitle())
+                .description(c.getDescription()).shortDescription(c.getShortDescription())
+                .thumbnailUrl(c.getThumbnailUrl()).previewVideoUrl(c.getPreviewVideoUrl())
+                .price(c.getPrice()).currency(c.getCurrency())
+                .level(c.getLevel()).status(c.getStatus())
+                .durationMinutes(c.getDurationMinutes()).totalLessons(c.getTotalLessons())
+                .instructor(Instructor.builder()
+                        .id(i.getId()).firstName(i.getFirstName()).lastName(i.getLastName())
+                        .avatarUrl(i.getAvatarUrl()).bio(i.getBio()).build())
+                .createdAt(c.getCreatedAt()).updatedAt(c.getUpdatedAt())
+                .build();
+    }
+}
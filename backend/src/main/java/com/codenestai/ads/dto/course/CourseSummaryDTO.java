@@ -0,0 +1,26 @@
+package com.codenestai.ads.dto.course;
+
+import com.codenestai.ads.model.Course;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/** Catalog card — everything the course list needs, nothing that forces a lesson or instructor load */
+@Data
+@AllArgsConstructor
+public class CourseSummaryDTO {
+    private UUID id;
+    private String slug;
+    private String title;
+    private String shortDescription;
+    private String thumbnailUrl;
+    private BigDecimal price;
+    private String currency;
+    private Course.Level level;
+    private String instructorName;
+    private Integer totalLessons;
+    private Instant createdAt;
+}
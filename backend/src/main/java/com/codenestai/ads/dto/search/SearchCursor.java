@@ -0,0 +1,31 @@
+package com.codenestai.ads.dto.search;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Seek position in a ranked result list: the (rank, id) of the last hit on the previous page.
+ * Same opaque encoding as {@link com.codenestai.ads.dto.PageCursor}.
+ */
+public record SearchCursor(float rank, UUID id) {
+
+    public static SearchCursor start() {
+        return new SearchCursor(Float.MAX_VALUE, new UUID(0L, 0L));
+    }
+
+    public static SearchCursor decode(String raw) {
+        if (raw == null || raw.isBlank()) return start();
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(raw), StandardCharsets.UTF_8).split("\\|");
+            return new SearchCursor(Float.parseFloat(parts[0]), UUID.fromString(parts[1]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = rank + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,24 @@
+package com.codenestai.ads.dto.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.UUID;
+
+/**
+ * One ranked search result. {@code headline} is an excerpt with matches wrapped in
+ * {@code <mark>…</mark>}; everything else in it is the stored text, so render it escaped.
+ * {@code slug} is only set for courses.
+ */
+@Data
+@AllArgsConstructor
+public class SearchHit {
+    private Type type;
+    private UUID id;
+    private String slug;
+    private String title;
+    private String headline;
+    private float rank;
+
+    public enum Type { COURSE, POST, THREAD }
+}
@@ -17,7 +17,7 @@ import java.util.UUID;
 public class Course {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     @Column(nullable = false)
@@ -54,9 +54,12 @@ public class Course {
     @Builder.Default
     private Level level = Level.BEGINNER;
 
+    // Lesson aggregates: adjusted in place by lesson writes, so course edits never write them
+    @Column(updatable = false)
     @Builder.Default
     private Integer durationMinutes = 0;
 
+    @Column(updatable = false)
     @Builder.Default
     private Integer totalLessons = 0;
 
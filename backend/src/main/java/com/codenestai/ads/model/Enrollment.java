@@ -14,7 +14,7 @@ import java.util.UUID;
 public class Enrollment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -35,6 +35,11 @@ public class Enrollment {
 
     private Instant completedAt;
 
+    /** Distinct lessons completed; bumped atomically alongside each new lesson_progress row */
+    @Column(nullable = false, updatable = false, columnDefinition = "integer not null default 0")
+    @Builder.Default
+    private int completedLessons = 0;
+
     /** Stripe payment intent ID — null for free courses */
     private String paymentIntentId;
 
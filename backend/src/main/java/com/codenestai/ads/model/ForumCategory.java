@@ -3,6 +3,7 @@ package com.codenestai.ads.model;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.Instant;
 import java.util.UUID;
 
 @Entity
@@ -11,7 +12,7 @@ import java.util.UUID;
 public class ForumCategory {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     @Column(nullable = false)
@@ -26,4 +27,23 @@ public class ForumCategory {
     @Column(nullable = false)
     @Builder.Default
     private Integer orderIndex = 0;
+
+    // ─── Stats — maintained by ForumService writes, rebuilt by reconcileStats ──
+    // Only ever changed by UPDATE statements, so they are not updatable through the entity.
+
+    @Column(nullable = false, updatable = false, columnDefinition = "integer not null default 0")
+    @Builder.Default
+    private int threadCount = 0;
+
+    @Column(nullable = false, updatable = false, columnDefinition = "integer not null default 0")
+    @Builder.Default
+    private int replyCount = 0;
+
+    /** Most recent thread or reply in the category, null while it is empty */
+    @Column(updatable = false)
+    private Instant lastActivityAt;
+
+    /** Thread that {@link #lastActivityAt} belongs to */
+    @Column(updatable = false)
+    private UUID lastActiveThreadId;
 }
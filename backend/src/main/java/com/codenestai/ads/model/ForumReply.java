@@ -14,7 +14,7 @@ import java.util.UUID;
 public class ForumReply {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -32,6 +32,8 @@ public class ForumReply {
     @Builder.Default
     private Boolean isAccepted = false;
 
+    /** Bumped with each new forum_reply_likes row; accepting a reply must not overwrite it */
+    @Column(updatable = false)
     @Builder.Default
     private Integer likeCount = 0;
 
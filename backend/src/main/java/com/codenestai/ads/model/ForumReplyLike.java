@@ -0,0 +1,34 @@
+package com.codenestai.ads.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/** One user's like on a forum reply — the unique constraint makes liking idempotent */
+@Entity
+@Table(name = "forum_reply_likes",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"reply_id", "user_id"}))
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class ForumReplyLike {
+
+    @Id
+    @UuidV7
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "reply_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private ForumReply reply;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @CreationTimestamp
+    private Instant createdAt;
+}
@@ -11,12 +11,16 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "forum_threads")
+@Table(name = "forum_threads", indexes = {
+        // Category feed order (pinned, recent activity, id — all descending); serves offset and keyset pages
+        @Index(name = "idx_forum_threads_category_feed",
+               columnList = "category_id, is_pinned DESC, last_activity_at DESC, id DESC")
+})
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class ForumThread {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -33,15 +37,19 @@ public class ForumThread {
     @Column(nullable = false, columnDefinition = "TEXT")
     private String body;
 
+    @Column(nullable = false)
     @Builder.Default
     private Boolean isPinned = false;
 
     @Builder.Default
     private Boolean isLocked = false;
 
+    /** Flushed in batches by ThreadViewCounter; never written by an entity update */
+    @Column(updatable = false)
     @Builder.Default
     private Integer viewCount = 0;
 
+    @Column(updatable = false)
     @Builder.Default
     private Integer replyCount = 0;
 
@@ -56,5 +64,7 @@ public class ForumThread {
     @UpdateTimestamp
     private Instant updatedAt;
 
+    /** Moved forward by ForumThreadRepository#recordReply, so saving a stale thread cannot rewind it */
+    @Column(nullable = false, updatable = false)
     private Instant lastActivityAt;
 }
@@ -16,7 +16,7 @@ import java.util.UUID;
 public class Post {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -34,6 +34,8 @@ public class Post {
     @Builder.Default
     private PostType type = PostType.DISCUSSION;
 
+    /** Bumped with each new post_likes row by an atomic UPDATE; entity saves leave it alone */
+    @Column(updatable = false)
     @Builder.Default
     private Integer likeCount = 0;
 
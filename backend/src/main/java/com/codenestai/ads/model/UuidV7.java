@@ -0,0 +1,19 @@
+package com.codenestai.ads.model;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates a time-ordered UUIDv7 id on insert. Drop-in for
+ * {@code @GeneratedValue(strategy = GenerationType.UUID)}: same {@code uuid} column, but new rows
+ * append to the right edge of the primary-key index instead of landing on random pages.
+ */
+@IdGeneratorType(UuidV7Generator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface UuidV7 {
+}
@@ -0,0 +1,38 @@
+package com.codenestai.ads.model;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+
+import java.security.SecureRandom;
+import java.util.EnumSet;
+import java.util.UUID;
+
+/**
+ * RFC 9562 version 7 UUIDs: a 48-bit Unix millisecond timestamp followed by 74 random bits.
+ * Postgres compares {@code uuid} values bytewise, so ids sort by creation time. Use
+ * {@link #next()} for ids written by native inserts.
+ */
+public class UuidV7Generator implements BeforeExecutionGenerator {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    public static UUID next() {
+        long msb = (System.currentTimeMillis() << 16)     // unix_ts_ms, 48 bits
+                | 0x7000L                                  // version 7
+                | (RANDOM.nextInt() & 0x0FFFL);            // rand_a, 12 bits
+        long lsb = 0x8000_0000_0000_0000L                  // variant 10
+                | (RANDOM.nextLong() & 0x3FFF_FFFF_FFFF_FFFFL);   // rand_b, 62 bits
+        return new UUID(msb, lsb);
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EnumSet.of(EventType.INSERT);
+    }
+}
@@ -1,15 +1,89 @@
 package com.codenestai.ads.repository;
+import com.codenestai.ads.dto.course.CourseSummaryDTO;
 import com.codenestai.ads.model.Course;
 import com.codenestai.ads.model.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 public interface CourseRepository extends JpaRepository<Course, UUID> {
     Optional<Course> findBySlug(String slug);
-    Page<Course> findByStatus(Course.Status status, Pageable pageable);
-    Page<Course> findByStatusAndLevel(Course.Status status, Course.Level level, Pageable pageable);
+
+    @Query("select c from Course c join fetch c.instructor where c.slug = :slug")
+    Optional<Course> findWithInstructorBySlug(@Param("slug") String slug);
+
+    /**
+     * ETag source for a course page: course edits, lesson totals (bulk-updated, so they skip
+     * updatedAt) and the instructor profile it embeds; empty when the course does not exist
+     */
+    @Query(value = "select concat_ws('|', c.updated_at, c.total_lessons, c.duration_minutes, i.updated_at) "
+            + "from courses c join users i on i.id = c.instructor_id where c.slug = :slug",
+           nativeQuery = true)
+    Optional<String> findVersionBySlug(@Param("slug") String slug);
     List<Course> findByInstructor(User instructor);
+    boolean existsByInstructorId(UUID instructorId);
+
+    // ─── Catalog projections — one query per page, no entity or lesson loading ──
+
+    String SUMMARY = "select new com.codenestai.ads.dto.course.CourseSummaryDTO("
+            + "c.id, c.slug, c.title, c.shortDescription, c.thumbnailUrl, c.price, c.currency, c.level, "
+            + "concat(i.firstName, ' ', i.lastName), c.totalLessons, c.createdAt) "
+            + "from Course c join c.instructor i ";
+
+    @Query(value = SUMMARY + "where c.status = :status",
+           countQuery = "select count(c) from Course c where c.status = :status")
+    Page<CourseSummaryDTO> findSummariesByStatus(@Param("status") Course.Status status, Pageable pageable);
+
+    @Query(value = SUMMARY + "where c.status = :status and c.level = :level",
+           countQuery = "select count(c) from Course c where c.status = :status and c.level = :level")
+    Page<CourseSummaryDTO> findSummariesByStatusAndLevel(@Param("status") Course.Status status,
+                                                         @Param("level") Course.Level level,
+                                                         Pageable pageable);
+
+    // Keyset variants: seek past (createdAt, id) instead of OFFSET, and skip the COUNT(*). The row
+    // comparison is an index bound; the expanded OR form would only be a filter.
+
+    @Query(SUMMARY + "where c.status = :status "
+            + "and (c.createdAt, c.id) > (:at, :id) "
+            + "order by c.createdAt, c.id")
+    Slice<CourseSummaryDTO> findSummariesByStatusAfter(@Param("status") Course.Status status,
+                                                       @Param("at") Instant at, @Param("id") UUID id,
+                                                       Pageable pageable);
+
+    @Query(SUMMARY + "where c.status = :status and c.level = :level "
+            + "and (c.createdAt, c.id) > (:at, :id) "
+            + "order by c.createdAt, c.id")
+    Slice<CourseSummaryDTO> findSummariesByStatusAndLevelAfter(@Param("status") Course.Status status,
+                                                               @Param("level") Course.Level level,
+                                                               @Param("at") Instant at, @Param("id") UUID id,
+                                                               Pageable pageable);
+
+    // ─── Lesson aggregates — kept in step with lesson writes, reconciled in bulk ──
+
+    @Modifying
+    @Query("update Course c set c.totalLessons = coalesce(c.totalLessons, 0) + :lessons, "
+            + "c.durationMinutes = coalesce(c.durationMinutes, 0) + :minutes where c.id = :id")
+    int adjustLessonTotals(@Param("id") UUID id, @Param("lessons") int lessons, @Param("minutes") int minutes);
+
+    /** Row-locks every course until commit, holding off lesson writes while totals are rebuilt */
+    @Query(value = "select id from courses for update", nativeQuery = true)
+    List<UUID> lockAll();
+
+    /** Recomputes totals for every course in one statement; returns how many had drifted */
+    @Modifying
+    @Query(value = "update courses c set total_lessons = coalesce(l.n, 0), duration_minutes = coalesce(l.minutes, 0) "
+            + "from courses c2 left join (select course_id, count(*)::int as n, "
+            + "sum(coalesce(duration_minutes, 0))::int as minutes from lessons group by course_id) l "
+            + "on l.course_id = c2.id "
+            + "where c.id = c2.id and (c.total_lessons is distinct from coalesce(l.n, 0) "
+            + "or c.duration_minutes is distinct from coalesce(l.minutes, 0))",
+           nativeQuery = true)
+    int reconcileLessonTotals();
 }
@@ -3,6 +3,10 @@ import com.codenestai.ads.model.Course;
 import com.codenestai.ads.model.Enrollment;
 import com.codenestai.ads.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -11,4 +15,49 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, UUID> {
     List<Enrollment> findByUser(User user);
     boolean existsByUserAndCourse(User user, Course course);
     long countByCourse(Course course);
+
+    /** Owned-enrollment lookup with its course in the same round trip */
+    @Query("select e from Enrollment e join fetch e.course where e.id = :id and e.user.id = :userId")
+    Optional<Enrollment> findByIdAndUserId(@Param("id") UUID id, @Param("userId") UUID userId);
+
+    /**
+     * Counts one more completed lesson and, if that reaches {@code totalLessons}, marks an active
+     * enrollment completed in the same statement. Cancelled and refunded enrollments keep their status.
+     */
+    @Modifying
+    @Query("update Enrollment e set e.completedLessons = e.completedLessons + 1, "
+            + "e.status = case when e.status = com.codenestai.ads.model.Enrollment.Status.ACTIVE "
+            + "and :totalLessons > 0 and e.completedLessons + 1 >= :totalLessons then :completed else e.status end, "
+            + "e.completedAt = case when e.status = com.codenestai.ads.model.Enrollment.Status.ACTIVE "
+            + "and :totalLessons > 0 and e.completedLessons + 1 >= :totalLessons then :now else e.completedAt end "
+            + "where e.id = :id")
+    int incrementCompletedLessons(@Param("id") UUID id, @Param("totalLessons") int totalLessons,
+                                  @Param("completed") Enrollment.Status completed, @Param("now") Instant now);
+
+    @Query("select e.completedLessons from Enrollment e where e.id = :id")
+    Optional<Integer> findCompletedLessons(@Param("id") UUID id);
+
+    /** Takes a lesson that is about to be deleted off the counters of everyone who completed it */
+    @Modifying
+    @Query(value = "update enrollments set completed_lessons = greatest(completed_lessons - 1, 0) "
+            + "where id in (select enrollment_id from lesson_progress where lesson_id = :lessonId)",
+           nativeQuery = true)
+    int decrementCompletedLessonsForLesson(@Param("lessonId") UUID lessonId);
+
+    /**
+     * Re-derives ACTIVE/COMPLETED for a course's enrollments after its lesson total changed: a new
+     * lesson re-opens completed enrollments, a removed one can complete the rest. Cancelled and
+     * refunded enrollments are left alone.
+     */
+    @Modifying
+    @Query(value = "update enrollments e set "
+            + "status = case when c.total_lessons > 0 and e.completed_lessons >= c.total_lessons "
+            + "then 'COMPLETED' else 'ACTIVE' end, "
+            + "completed_at = case when c.total_lessons > 0 and e.completed_lessons >= c.total_lessons "
+            + "then coalesce(e.completed_at, :now) end "
+            + "from courses c where c.id = e.course_id and e.course_id = :courseId "
+            + "and e.status in ('ACTIVE', 'COMPLETED') "
+            + "and (e.status = 'COMPLETED') <> (c.total_lessons > 0 and e.completed_lessons >= c.total_lessons)",
+           nativeQuery = true)
+    int syncCompletionStatus(@Param("courseId") UUID courseId, @Param("now") Instant now);
 }
@@ -1,10 +1,67 @@
 package com.codenestai.ads.repository;
 import com.codenestai.ads.model.ForumCategory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 public interface ForumCategoryRepository extends JpaRepository<ForumCategory, UUID> {
     List<ForumCategory> findAllByOrderByOrderIndexAsc();
     Optional<ForumCategory> findBySlug(String slug);
+
+    /** ETag source for the category list: every field it shows, counters included, without loading it */
+    @Query(value = "select string_agg(concat_ws('|', id, name, slug, description, icon_url, order_index, "
+            + "thread_count, reply_count, last_activity_at, last_active_thread_id), ',' order by order_index, id) "
+            + "from forum_categories",
+           nativeQuery = true)
+    Optional<String> findListVersion();
+
+    // ─── Stats — atomic in-place updates, the pointer only ever moves forward ──
+
+    @Modifying
+    @Query("update ForumCategory c set c.threadCount = c.threadCount + :threads, c.replyCount = c.replyCount + :replies, "
+            + "c.lastActiveThreadId = case when c.lastActivityAt is null or c.lastActivityAt <= :at "
+            + "then :threadId else c.lastActiveThreadId end, "
+            + "c.lastActivityAt = case when c.lastActivityAt is null or c.lastActivityAt <= :at "
+            + "then :at else c.lastActivityAt end "
+            + "where c.id = :id")
+    int recordActivity(@Param("id") UUID id, @Param("threads") int threads, @Param("replies") int replies,
+                       @Param("threadId") UUID threadId, @Param("at") Instant at);
+
+    @Modifying
+    @Query("update ForumCategory c set c.threadCount = greatest(c.threadCount - :threads, 0), "
+            + "c.replyCount = greatest(c.replyCount - :replies, 0) where c.id = :id")
+    int removeActivity(@Param("id") UUID id, @Param("threads") int threads, @Param("replies") int replies);
+
+    /** Re-points last activity at the category's newest remaining thread (null once it is empty) */
+    @Modifying
+    @Query(value = "update forum_categories c set (last_active_thread_id, last_activity_at) = "
+            + "(select t.id, t.last_activity_at from forum_threads t where t.category_id = c.id "
+            + "order by t.last_activity_at desc nulls last, t.id desc limit 1) "
+            + "where c.id = :id",
+           nativeQuery = true)
+    int resetLastActivity(@Param("id") UUID id);
+
+    /** Row-locks every category until commit, holding off counter updates while stats are rebuilt */
+    @Query(value = "select id from forum_categories for update", nativeQuery = true)
+    List<UUID> lockAll();
+
+    /** Recomputes stats for every category in one statement; returns how many had drifted */
+    @Modifying
+    @Query(value = "update forum_categories c set thread_count = s.threads, reply_count = s.replies, "
+            + "last_activity_at = s.last_at, last_active_thread_id = s.last_id "
+            + "from (select c2.id, count(distinct t.id)::int as threads, count(r.id)::int as replies, "
+            + "max(t.last_activity_at) as last_at, "
+            + "(array_agg(t.id order by t.last_activity_at desc nulls last, t.id desc))[1] as last_id "
+            + "from forum_categories c2 left join forum_threads t on t.category_id = c2.id "
+            + "left join forum_replies r on r.thread_id = t.id group by c2.id) s "
+            + "where c.id = s.id and (c.thread_count is distinct from s.threads "
+            + "or c.reply_count is distinct from s.replies "
+            + "or c.last_activity_at is distinct from s.last_at "
+            + "or c.last_active_thread_id is distinct from s.last_id)",
+           nativeQuery = true)
+    int reconcileStats();
 }
@@ -0,0 +1,16 @@
+package com.codenestai.ads.repository;
+import com.codenestai.ads.model.ForumReplyLike;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.UUID;
+public interface ForumReplyLikeRepository extends JpaRepository<ForumReplyLike, UUID> {
+
+    /** Records the like unless this user already liked the reply; returns 1 if a row was inserted */
+    @Modifying
+    @Query(value = "insert into forum_reply_likes (id, reply_id, user_id, created_at) "
+            + "values (:id, :replyId, :userId, now()) on conflict (reply_id, user_id) do nothing",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("id") UUID id, @Param("replyId") UUID replyId, @Param("userId") UUID userId);
+}
@@ -3,8 +3,31 @@ import com.codenestai.ads.model.ForumReply;
 import com.codenestai.ads.model.ForumThread;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.time.Instant;
+import java.util.Optional;
 import java.util.UUID;
 public interface ForumReplyRepository extends JpaRepository<ForumReply, UUID> {
     Page<ForumReply> findByThread(ForumThread thread, Pageable pageable);
+    long countByThreadId(UUID threadId);
+
+    /** Atomic in-place increment — no read-modify-write, and the TEXT content is not rewritten */
+    @Modifying
+    @Query("update ForumReply r set r.likeCount = r.likeCount + 1 where r.id = :id")
+    int incrementLikeCount(@Param("id") UUID id);
+
+    @Query("select r.likeCount from ForumReply r where r.id = :id")
+    Optional<Integer> findLikeCount(@Param("id") UUID id);
+
+    /** Keyset variant, oldest first: seek past (createdAt, id) instead of OFFSET */
+    @Query("select r from ForumReply r where r.thread = :thread "
+            + "and (r.createdAt, r.id) > (:at, :id) "
+            + "order by r.createdAt, r.id")
+    Slice<ForumReply> findByThreadAfter(@Param("thread") ForumThread thread,
+                                        @Param("at") Instant at, @Param("id") UUID id,
+                                        Pageable pageable);
 }
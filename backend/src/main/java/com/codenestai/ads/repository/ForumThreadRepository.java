@@ -4,9 +4,47 @@ import com.codenestai.ads.model.ForumThread;
 import com.codenestai.ads.model.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 public interface ForumThreadRepository extends JpaRepository<ForumThread, UUID> {
-    Page<ForumThread> findByCategory(ForumCategory category, Pageable pageable);
     Page<ForumThread> findByAuthor(User author, Pageable pageable);
+
+    // Reply counter — atomic in-place updates, no read-modify-write and the TEXT body is not rewritten
+
+    /** Returns 0 when the thread is missing or locked, so the lock check and the increment are one step */
+    @Modifying
+    @Query("update ForumThread t set t.replyCount = coalesce(t.replyCount, 0) + 1, "
+            + "t.lastActivityAt = case when t.lastActivityAt is null or t.lastActivityAt < :at "
+            + "then :at else t.lastActivityAt end "
+            + "where t.id = :id and (t.isLocked is null or t.isLocked = false)")
+    int recordReply(@Param("id") UUID id, @Param("at") Instant at);
+
+    @Modifying
+    @Query("update ForumThread t set t.replyCount = greatest(coalesce(t.replyCount, 0) - 1, 0) where t.id = :id")
+    int decrementReplyCount(@Param("id") UUID id);
+
+    // Category feed: pinned first, then most recent activity — both modes walk idx_forum_threads_category_feed
+
+    /** Offset page of the feed; the caller supplies the total from the category's thread counter */
+    @Query("select t from ForumThread t where t.category = :category "
+            + "order by t.isPinned desc, t.lastActivityAt desc, t.id desc")
+    List<ForumThread> findCategoryFeed(@Param("category") ForumCategory category, Pageable pageable);
+
+    /**
+     * Keyset variant: seek past (isPinned, lastActivityAt, id) instead of OFFSET. Written as a row
+     * comparison so Postgres uses it as an index bound; the expanded OR form is only a filter.
+     */
+    @Query("select t from ForumThread t where t.category = :category "
+            + "and (t.isPinned, t.lastActivityAt, t.id) < (:pinned, :at, :id) "
+            + "order by t.isPinned desc, t.lastActivityAt desc, t.id desc")
+    Slice<ForumThread> findByCategoryAfter(@Param("category") ForumCategory category,
+                                           @Param("pinned") boolean pinned,
+                                           @Param("at") Instant at, @Param("id") UUID id,
+                                           Pageable pageable);
 }
@@ -3,6 +3,9 @@ import com.codenestai.ads.model.Enrollment;
 import com.codenestai.ads.model.Lesson;
 import com.codenestai.ads.model.LessonProgress;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -10,4 +13,19 @@ public interface LessonProgressRepository extends JpaRepository<LessonProgress,
     List<LessonProgress> findByEnrollment(Enrollment enrollment);
     Optional<LessonProgress> findByEnrollmentAndLesson(Enrollment enrollment, Lesson lesson);
     long countByEnrollment(Enrollment enrollment);
+
+    /** Completed lesson ids read straight off the FK column — no LessonProgress or Lesson entities */
+    @Query("select p.lesson.id from LessonProgress p where p.enrollment.id = :enrollmentId order by p.completedAt")
+    List<UUID> findCompletedLessonIds(@Param("enrollmentId") UUID enrollmentId);
+
+    /** Records the completion unless it is already recorded; returns 1 if a row was inserted */
+    @Modifying
+    @Query(value = "insert into lesson_progress (id, enrollment_id, lesson_id, completed_at) "
+            + "values (:id, :enrollmentId, :lessonId, now()) on conflict (enrollment_id, lesson_id) do nothing",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("id") UUID id, @Param("enrollmentId") UUID enrollmentId, @Param("lessonId") UUID lessonId);
+
+    @Modifying
+    @Query("delete from LessonProgress p where p.lesson.id = :lessonId")
+    int deleteByLessonId(@Param("lessonId") UUID lessonId);
 }
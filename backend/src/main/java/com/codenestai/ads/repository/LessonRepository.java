@@ -2,8 +2,18 @@ package com.codenestai.ads.repository;
 import com.codenestai.ads.model.Course;
 import com.codenestai.ads.model.Lesson;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 public interface LessonRepository extends JpaRepository<Lesson, UUID> {
     List<Lesson> findByCourseOrderByOrderIndexAsc(Course course);
+    boolean existsByIdAndCourseId(UUID id, UUID courseId);
+
+    /** ETag source for a course's lesson list; empty when the course does not exist */
+    @Query(value = "select concat_ws('|', count(l.id), max(l.updated_at)) "
+            + "from courses c left join lessons l on l.course_id = c.id where c.id = :courseId group by c.id",
+           nativeQuery = true)
+    Optional<String> findVersionByCourseId(@Param("courseId") UUID courseId);
 }
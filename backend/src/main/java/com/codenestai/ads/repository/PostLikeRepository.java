@@ -0,0 +1,16 @@
+package com.codenestai.ads.repository;
+import com.codenestai.ads.model.PostLike;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.UUID;
+public interface PostLikeRepository extends JpaRepository<PostLike, UUID> {
+
+    /** Records the like unless this user already liked the post; returns 1 if a row was inserted */
+    @Modifying
+    @Query(value = "insert into post_likes (id, post_id, user_id, created_at) "
+            + "values (:id, :postId, :userId, now()) on conflict (post_id, user_id) do nothing",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("id") UUID id, @Param("postId") UUID postId, @Param("userId") UUID userId);
+}
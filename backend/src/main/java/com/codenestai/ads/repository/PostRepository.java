@@ -3,10 +3,45 @@ import com.codenestai.ads.model.Post;
 import com.codenestai.ads.model.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.time.Instant;
+import java.util.Optional;
 import java.util.UUID;
 public interface PostRepository extends JpaRepository<Post, UUID> {
     Page<Post> findAll(Pageable pageable);
     Page<Post> findByType(Post.PostType type, Pageable pageable);
     Page<Post> findByAuthor(User author, Pageable pageable);
+
+    /** Atomic in-place increment — no read-modify-write, and the TEXT content is not rewritten */
+    @Modifying
+    @Query("update Post p set p.likeCount = p.likeCount + 1 where p.id = :id")
+    int incrementLikeCount(@Param("id") UUID id);
+
+    @Query("select p.likeCount from Post p where p.id = :id")
+    Optional<Integer> findLikeCount(@Param("id") UUID id);
+
+    /** ETag source: edits, likes (which skip updatedAt) and comments, without loading the post */
+    @Query(value = "select concat_ws('|', p.updated_at, p.like_count, count(c.id), max(c.created_at)) "
+            + "from posts p left join post_comments c on c.post_id = p.id where p.id = :id group by p.id",
+           nativeQuery = true)
+    Optional<String> findVersion(@Param("id") UUID id);
+
+    // Keyset feed, newest first: seek below (createdAt, id) instead of OFFSET. Row comparisons,
+    // so Postgres uses them as an index bound; the expanded OR form is only a filter.
+
+    @Query("select p from Post p "
+            + "where (p.createdAt, p.id) < (:at, :id) "
+            + "order by p.createdAt desc, p.id desc")
+    Slice<Post> findFeedBefore(@Param("at") Instant at, @Param("id") UUID id, Pageable pageable);
+
+    @Query("select p from Post p where p.type = :type "
+            + "and (p.createdAt, p.id) < (:at, :id) "
+            + "order by p.createdAt desc, p.id desc")
+    Slice<Post> findFeedByTypeBefore(@Param("type") Post.PostType type,
+                                     @Param("at") Instant at, @Param("id") UUID id,
+                                     Pageable pageable);
 }
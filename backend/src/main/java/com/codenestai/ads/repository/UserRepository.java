@@ -1,10 +1,36 @@
 package com.codenestai.ads.repository;
+import com.codenestai.ads.config.CacheConfig;
 import com.codenestai.ads.model.User;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.Optional;
 import java.util.UUID;
 public interface UserRepository extends JpaRepository<User, UUID> {
+    /** Read-write, so it runs on the primary: a login must see a just-registered account or changed password */
+    @Transactional
     Optional<User> findByEmail(String email);
+    /**
+     * Read-write for the same reason: a principal cached from a lagging replica would reject a new
+     * account's first request, or put back the row a save just evicted
+     */
+    @Transactional
+    Optional<User> findPrincipalById(UUID id);
     Optional<User> findByGoogleId(String googleId);
     boolean existsByEmail(String email);
+
+    /** Any persisted change to a user (profile, role, isActive) drops its cached principal */
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.PRINCIPALS, key = "#p0.id", condition = "#p0.id != null")
+    <S extends User> S save(S user);
+
+    /** Writes only the hash, so a login re-hash cannot put back profile fields it read earlier */
+    @Modifying
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PRINCIPALS, key = "#p0")
+    @Query("update User u set u.passwordHash = :hash where u.id = :id")
+    int updatePasswordHash(@Param("id") UUID id, @Param("hash") String hash);
 }
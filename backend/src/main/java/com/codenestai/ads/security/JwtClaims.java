@@ -0,0 +1,16 @@
+package com.codenestai.ads.security;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/** Typed view of a verified token's payload — {@code email} and {@code role} are null on refresh tokens */
+public record JwtClaims(UUID userId, String type, String email, String role, Instant expiresAt) {
+
+    public boolean isAccess() {
+        return "access".equals(type);
+    }
+
+    public boolean isRefresh() {
+        return "refresh".equals(type);
+    }
+}
@@ -1,13 +1,19 @@
 package com.codenestai.ads.security;
 
+import com.codenestai.ads.config.CacheConfig;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.UUID;
 
@@ -16,16 +22,24 @@ import java.util.UUID;
 public class JwtUtil {
 
     private final SecretKey key;
+    private final JwtParser parser;
     private final long expiration;
     private final long refreshExpiration;
 
+    /** Null when the verified-token cache is disabled */
+    private final Cache verifiedTokens;
+
     public JwtUtil(
             @Value("${jwt.secret}") String secret,
             @Value("${jwt.expiration}") long expiration,
-            @Value("${jwt.refresh-expiration}") long refreshExpiration) {
+            @Value("${jwt.refresh-expiration}") long refreshExpiration,
+            @Value("${cache.verified-tokens.enabled:true}") boolean cacheVerifiedTokens,
+            CacheManager cacheManager) {
         this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(key).build();   // immutable, safe to share across threads
         this.expiration = expiration;
         this.refreshExpiration = refreshExpiration;
+        this.verifiedTokens = cacheVerifiedTokens ? cacheManager.getCache(CacheConfig.VERIFIED_TOKENS) : null;
     }
 
     public String generateAccessToken(UUID userId, String email, String role) {
@@ -50,22 +64,58 @@ public class JwtUtil {
                 .compact();
     }
 
-    public Claims parseToken(String token) {
-        return Jwts.parser().verifyWith(key).build()
-                .parseSignedClaims(token).getPayload();
+    /**
+     * Verifies the signature and expiry of {@code token} and decodes its claims in a single pass.
+     * Never throws for a bad token — callers branch on {@link JwtVerification#isValid()}.
+     * Successful results are cached by token hash, so a token replayed on every request is
+     * only verified once per {@code cache.verified-tokens.ttl}.
+     */
+    public JwtVerification verify(String token) {
+        if (verifiedTokens == null) return decode(token);
+
+        String cacheKey = sha256(token);
+        JwtClaims cached = verifiedTokens.get(cacheKey, JwtClaims.class);
+        if (cached != null) return JwtVerification.valid(cached);
+
+        JwtVerification verification = decode(token);
+        if (verification.isValid()) verifiedTokens.put(cacheKey, verification.claims());
+        return verification;
     }
 
-    public boolean isValid(String token) {
+    private JwtVerification decode(String token) {
         try {
-            parseToken(token);
-            return true;
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            if (claims.getSubject() == null || claims.getExpiration() == null) {
+                return JwtVerification.invalid(JwtVerification.Failure.MALFORMED);
+            }
+            return JwtVerification.valid(new JwtClaims(
+                    UUID.fromString(claims.getSubject()),
+                    claims.get("type", String.class),
+                    claims.get("email", String.class),
+                    claims.get("role", String.class),
+                    claims.getExpiration().toInstant()));
+        } catch (ExpiredJwtException e) {
+            return invalid(JwtVerification.Failure.EXPIRED, e);
+        } catch (io.jsonwebtoken.security.SecurityException e) {
+            return invalid(JwtVerification.Failure.BAD_SIGNATURE, e);
+        } catch (UnsupportedJwtException e) {
+            return invalid(JwtVerification.Failure.UNSUPPORTED, e);
         } catch (JwtException | IllegalArgumentException e) {
-            log.debug("Invalid JWT: {}", e.getMessage());
-            return false;
+            return invalid(JwtVerification.Failure.MALFORMED, e);
         }
     }
 
-    public UUID getUserId(String token) {
-        return UUID.fromString(parseToken(token).getSubject());
+    private JwtVerification invalid(JwtVerification.Failure failure, Exception e) {
+        log.debug("Invalid JWT ({}): {}", failure, e.getMessage());
+        return JwtVerification.invalid(failure);
+    }
+
+    private static String sha256(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 }
@@ -0,0 +1,19 @@
+package com.codenestai.ads.security;
+
+/** Outcome of {@link JwtUtil#verify}: either the decoded claims or the reason they were rejected */
+public record JwtVerification(JwtClaims claims, Failure failure) {
+
+    public enum Failure { EXPIRED, BAD_SIGNATURE, MALFORMED, UNSUPPORTED }
+
+    public static JwtVerification valid(JwtClaims claims) {
+        return new JwtVerification(claims, null);
+    }
+
+    public static JwtVerification invalid(Failure failure) {
+        return new JwtVerification(null, failure);
+    }
+
+    public boolean isValid() {
+        return claims != null;
+    }
+}
@@ -0,0 +1,28 @@
+package com.codenestai.ads.security;
+
+import com.codenestai.ads.config.CacheConfig;
+import com.codenestai.ads.model.User;
+import com.codenestai.ads.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Resolves the user behind an access token without a database round trip on every request.
+ * Entries are evicted by {@link UserRepository#save} and loaded from the primary, so profile
+ * edits, role changes and deactivation take effect on the next request. The cached instance is shared by every request
+ * for that user, so treat it as read-only and load a fresh entity to change a user.
+ */
+@Component
+@RequiredArgsConstructor
+public class PrincipalCache {
+
+    private final UserRepository userRepository;
+
+    @Cacheable(cacheNames = CacheConfig.PRINCIPALS, key = "#userId", unless = "#result == null")
+    public User load(UUID userId) {
+        return userRepository.findPrincipalById(userId).orElse(null);
+    }
+}
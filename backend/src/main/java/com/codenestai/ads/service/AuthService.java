@@ -3,32 +3,31 @@ package com.codenestai.ads.service;
 import com.codenestai.ads.dto.auth.*;
 import com.codenestai.ads.model.User;
 import com.codenestai.ads.repository.UserRepository;
+import com.codenestai.ads.security.GoogleTokenVerifier;
 import com.codenestai.ads.security.JwtUtil;
+import com.codenestai.ads.security.JwtVerification;
+import com.codenestai.ads.security.PasswordHasher;
 import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
-import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
-import com.google.api.client.http.javanet.NetHttpTransport;
-import com.google.api.client.json.gson.GsonFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Collections;
-
+/**
+ * Password sign-up and login run without a surrounding transaction: each repository call commits
+ * on its own, and BCrypt (which may queue on {@link PasswordHasher}'s pool) runs in between, so a
+ * login burst never parks pooled connections behind the hashing queue.
+ */
 @Service
 @RequiredArgsConstructor
-@Transactional
 @Slf4j
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final JwtUtil jwtUtil;
-
-    @Value("${oauth.google.client-id:not-configured}")
-    private String googleClientId;
+    private final GoogleTokenVerifier googleTokenVerifier;
 
     public AuthResponse register(RegisterRequest req) {
         if (userRepository.existsByEmail(req.getEmail())) {
@@ -36,12 +35,17 @@ public class AuthService {
         }
         User user = User.builder()
                 .email(req.getEmail())
-                .passwordHash(passwordEncoder.encode(req.getPassword()))
+                .passwordHash(passwordHasher.encode(req.getPassword()))
                 .firstName(req.getFirstName())
                 .lastName(req.getLastName())
                 .authProvider(User.AuthProvider.LOCAL)
                 .build();
-        userRepository.save(user);
+        try {
+            userRepository.save(user);
+        } catch (DataIntegrityViolationException e) {
+            // Same email registered while this request was hashing
+            throw new IllegalArgumentException("Email already registered");
+        }
         return buildAuthResponse(user);
     }
 
@@ -50,16 +54,22 @@ public class AuthService {
                 .orElseThrow(() -> new IllegalArgumentException("Invalid email or password"));
 
         if (user.getPasswordHash() == null ||
-                !passwordEncoder.matches(req.getPassword(), user.getPasswordHash())) {
+                !passwordHasher.matches(req.getPassword(), user.getPasswordHash())) {
             throw new IllegalArgumentException("Invalid email or password");
         }
 
         if (!user.getIsActive()) throw new IllegalStateException("Account is deactivated");
+
+        // Re-hash with the current work factor while we still have the plaintext
+        if (passwordHasher.needsRehash(user.getPasswordHash())) {
+            userRepository.updatePasswordHash(user.getId(), passwordHasher.encode(req.getPassword()));
+        }
         return buildAuthResponse(user);
     }
 
+    @Transactional
     public AuthResponse loginWithGoogle(GoogleAuthRequest req) {
-        GoogleIdToken.Payload payload = verifyGoogleToken(req.getIdToken());
+        GoogleIdToken.Payload payload = googleTokenVerifier.verify(req.getIdToken());
         String email   = payload.getEmail();
         String googleId = payload.getSubject();
 
@@ -70,6 +80,7 @@ public class AuthService {
                     if (u.getGoogleId() == null) {
                         u.setGoogleId(googleId);
                         u.setAuthProvider(User.AuthProvider.GOOGLE);
+                        return userRepository.save(u);
                     }
                     return u;
                 })
@@ -86,15 +97,16 @@ public class AuthService {
         return buildAuthResponse(user);
     }
 
+    @Transactional
     public AuthResponse refresh(RefreshRequest req) {
-        if (!jwtUtil.isValid(req.getRefreshToken())) {
+        JwtVerification verification = jwtUtil.verify(req.getRefreshToken());
+        if (!verification.isValid()) {
             throw new IllegalArgumentException("Invalid refresh token");
         }
-        var claims = jwtUtil.parseToken(req.getRefreshToken());
-        if (!"refresh".equals(claims.get("type"))) {
+        if (!verification.claims().isRefresh()) {
             throw new IllegalArgumentException("Not a refresh token");
         }
-        User user = userRepository.findById(jwtUtil.getUserId(req.getRefreshToken()))
+        User user = userRepository.findById(verification.claims().userId())
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
         return buildAuthResponse(user);
     }
@@ -104,18 +116,4 @@ public class AuthService {
         String refreshToken = jwtUtil.generateRefreshToken(user.getId());
         return new AuthResponse(accessToken, refreshToken, UserDTO.from(user));
     }
-
-    private GoogleIdToken.Payload verifyGoogleToken(String idToken) {
-        try {
-            GoogleIdTokenVerifier verifier = new GoogleIdTokenVerifier.Builder(
-                    new NetHttpTransport(), GsonFactory.getDefaultInstance())
-                    .setAudience(Collections.singletonList(googleClientId))
-                    .build();
-            GoogleIdToken token = verifier.verify(idToken);
-            if (token == null) throw new SecurityException("Invalid Google ID token");
-            return token.getPayload();
-        } catch (Exception e) {
-            throw new SecurityException("Google token verification failed: " + e.getMessage());
-        }
-    }
 }
@@ -1,9 +1,13 @@
 package com.codenestai.ads.service;
 
+import com.codenestai.ads.dto.CursorPage;
+import com.codenestai.ads.dto.PageCursor;
 import com.codenestai.ads.model.Post;
 import com.codenestai.ads.model.PostComment;
 import com.codenestai.ads.model.User;
+import com.codenestai.ads.model.UuidV7Generator;
 import com.codenestai.ads.repository.PostCommentRepository;
+import com.codenestai.ads.repository.PostLikeRepository;
 import com.codenestai.ads.repository.PostRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -22,19 +26,36 @@ public class CommunityService {
 
     private final PostRepository postRepository;
     private final PostCommentRepository commentRepository;
+    private final PostLikeRepository postLikeRepository;
 
+    @Transactional(readOnly = true)
     public Page<Post> getPosts(Pageable pageable) {
         return postRepository.findAll(pageable);
     }
 
+    @Transactional(readOnly = true)
     public Page<Post> getPostsByType(Post.PostType type, Pageable pageable) {
         return postRepository.findByType(type, pageable);
     }
 
+    @Transactional(readOnly = true)
+    public CursorPage<Post> getFeed(Post.PostType type, PageCursor before, Pageable limit) {
+        var slice = type != null
+                ? postRepository.findFeedByTypeBefore(type, before.at(), before.id(), limit)
+                : postRepository.findFeedBefore(before.at(), before.id(), limit);
+        return CursorPage.of(slice, p -> PageCursor.of(p.getCreatedAt(), p.getId()));
+    }
+
+    @Transactional(readOnly = true)
     public Optional<Post> getPost(UUID id) {
         return postRepository.findById(id);
     }
 
+    @Transactional(readOnly = true)
+    public Optional<String> getPostVersion(UUID id) {
+        return postRepository.findVersion(id);
+    }
+
     public Post createPost(Post post) {
         return postRepository.save(post);
     }
@@ -61,11 +82,15 @@ public class CommunityService {
         postRepository.delete(post);
     }
 
-    public Post likePost(UUID id) {
-        Post post = postRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("Post not found"));
-        post.setLikeCount(post.getLikeCount() + 1);
-        return postRepository.save(post);
+    /** Idempotent per user — returns the post's like count afterwards */
+    public int likePost(UUID id, User user) {
+        if (!postRepository.existsById(id)) {
+            throw new IllegalArgumentException("Post not found");
+        }
+        if (postLikeRepository.insertIfAbsent(UuidV7Generator.next(), id, user.getId()) == 1) {
+            postRepository.incrementLikeCount(id);
+        }
+        return postRepository.findLikeCount(id).orElse(0);
     }
 
     public PostComment addComment(UUID postId, PostComment comment) {
@@ -1,18 +1,29 @@
 package com.codenestai.ads.service;
 
+import com.codenestai.ads.dto.CursorPage;
+import com.codenestai.ads.dto.PageCursor;
+import com.codenestai.ads.config.CacheConfig;
+import com.codenestai.ads.dto.course.CourseDetailDTO;
+import com.codenestai.ads.dto.course.CourseSummaryDTO;
 import com.codenestai.ads.model.Course;
 import com.codenestai.ads.model.Lesson;
 import com.codenestai.ads.model.User;
 import com.codenestai.ads.repository.CourseRepository;
 import com.codenestai.ads.repository.EnrollmentRepository;
+import com.codenestai.ads.repository.LessonProgressRepository;
 import com.codenestai.ads.repository.LessonRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -20,36 +31,65 @@ import java.util.UUID;
 @Service
 @RequiredArgsConstructor
 @Transactional
+@Slf4j
 public class CourseService {
 
     private final CourseRepository courseRepository;
     private final LessonRepository lessonRepository;
     private final EnrollmentRepository enrollmentRepository;
+    private final LessonProgressRepository lessonProgressRepository;
+    private final JobLock jobLock;
 
-    public Page<Course> getPublishedCourses(Pageable pageable) {
-        return courseRepository.findByStatus(Course.Status.PUBLISHED, pageable);
+    // ─── Catalog reads are cached; every course/lesson write below evicts both caches on commit ──
+
+    @Cacheable(CacheConfig.CATALOG)
+    @Transactional(readOnly = true)
+    public Page<CourseSummaryDTO> getPublishedCourses(Pageable pageable) {
+        return courseRepository.findSummariesByStatus(Course.Status.PUBLISHED, pageable);
+    }
+
+    @Cacheable(CacheConfig.CATALOG)
+    @Transactional(readOnly = true)
+    public Page<CourseSummaryDTO> getPublishedCoursesByLevel(Course.Level level, Pageable pageable) {
+        return courseRepository.findSummariesByStatusAndLevel(Course.Status.PUBLISHED, level, pageable);
     }
 
-    public Page<Course> getPublishedCoursesByLevel(Course.Level level, Pageable pageable) {
-        return courseRepository.findByStatusAndLevel(Course.Status.PUBLISHED, level, pageable);
+    @Cacheable(CacheConfig.CATALOG)
+    @Transactional(readOnly = true)
+    public CursorPage<CourseSummaryDTO> getPublishedCoursesAfter(Course.Level level, PageCursor after, Pageable limit) {
+        var slice = level != null
+                ? courseRepository.findSummariesByStatusAndLevelAfter(
+                        Course.Status.PUBLISHED, level, after.at(), after.id(), limit)
+                : courseRepository.findSummariesByStatusAfter(
+                        Course.Status.PUBLISHED, after.at(), after.id(), limit);
+        return CursorPage.of(slice, c -> PageCursor.of(c.getCreatedAt(), c.getId()));
     }
 
-    public Optional<Course> getCourseBySlug(String slug) {
-        return courseRepository.findBySlug(slug);
+    @Cacheable(cacheNames = CacheConfig.COURSE_DETAILS, unless = "#result == null")
+    @Transactional(readOnly = true)
+    public Optional<CourseDetailDTO> getCourseDetail(String slug) {
+        return courseRepository.findWithInstructorBySlug(slug).map(CourseDetailDTO::from);
     }
 
+    @Transactional(readOnly = true)
     public Optional<Course> getCourseById(UUID id) {
         return courseRepository.findById(id);
     }
 
+    @Transactional(readOnly = true)
     public List<Course> getInstructorCourses(User instructor) {
         return courseRepository.findByInstructor(instructor);
     }
 
+    @CacheEvict(cacheNames = {CacheConfig.CATALOG, CacheConfig.COURSE_DETAILS}, allEntries = true)
     public Course createCourse(Course course) {
+        // Lesson aggregates are owned by the lesson endpoints, never by the client
+        course.setTotalLessons(0);
+        course.setDurationMinutes(0);
         return courseRepository.save(course);
     }
 
+    @CacheEvict(cacheNames = {CacheConfig.CATALOG, CacheConfig.COURSE_DETAILS}, allEntries = true)
     public Course updateCourse(UUID id, Course details, User requestingUser) {
         Course course = courseRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Course not found"));
@@ -70,22 +110,37 @@ public class CourseService {
         return courseRepository.save(course);
     }
 
+    @Transactional(readOnly = true)
+    public Optional<String> getCourseVersion(String slug) {
+        return courseRepository.findVersionBySlug(slug);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<String> getLessonsVersion(UUID courseId) {
+        return lessonRepository.findVersionByCourseId(courseId);
+    }
+
+    @Transactional(readOnly = true)
     public List<Lesson> getLessonsForCourse(Course course) {
         return lessonRepository.findByCourseOrderByOrderIndexAsc(course);
     }
 
-    public Lesson addLesson(Lesson lesson) {
-        return lessonRepository.save(lesson);
+    // ─── Lessons — each write moves the course's totalLessons / durationMinutes by its delta ──
+
+    @CacheEvict(cacheNames = {CacheConfig.CATALOG, CacheConfig.COURSE_DETAILS}, allEntries = true)
+    public Lesson addLesson(UUID courseId, Lesson lesson) {
+        lesson.setCourse(courseRepository.findById(courseId)
+                .orElseThrow(() -> new IllegalArgumentException("Course not found")));
+        Lesson saved = lessonRepository.save(lesson);
+        courseRepository.adjustLessonTotals(lesson.getCourse().getId(), 1, minutes(saved));
+        enrollmentRepository.syncCompletionStatus(lesson.getCourse().getId(), Instant.now());
+        return saved;
     }
 
+    @CacheEvict(cacheNames = {CacheConfig.CATALOG, CacheConfig.COURSE_DETAILS}, allEntries = true)
     public Lesson updateLesson(UUID lessonId, Lesson details, User requestingUser) {
-        Lesson lesson = lessonRepository.findById(lessonId)
-                .orElseThrow(() -> new IllegalArgumentException("Lesson not found"));
-
-        if (!lesson.getCourse().getInstructor().getId().equals(requestingUser.getId())
-                && requestingUser.getRole() != User.Role.ADMIN) {
-            throw new AccessDeniedException("Only the instructor or admin can update lessons");
-        }
+        Lesson lesson = findEditableLesson(lessonId, requestingUser);
+        int previousMinutes = minutes(lesson);
 
         lesson.setTitle(details.getTitle());
         lesson.setContent(details.getContent());
@@ -93,9 +148,50 @@ public class CourseService {
         lesson.setDurationMinutes(details.getDurationMinutes());
         lesson.setOrderIndex(details.getOrderIndex());
         lesson.setIsFreePreview(details.getIsFreePreview());
-        return lessonRepository.save(lesson);
+        Lesson saved = lessonRepository.save(lesson);
+
+        if (minutes(saved) != previousMinutes) {
+            courseRepository.adjustLessonTotals(lesson.getCourse().getId(), 0, minutes(saved) - previousMinutes);
+        }
+        return saved;
+    }
+
+    @CacheEvict(cacheNames = {CacheConfig.CATALOG, CacheConfig.COURSE_DETAILS}, allEntries = true)
+    public void deleteLesson(UUID lessonId, User requestingUser) {
+        Lesson lesson = findEditableLesson(lessonId, requestingUser);
+        enrollmentRepository.decrementCompletedLessonsForLesson(lessonId);
+        lessonProgressRepository.deleteByLessonId(lessonId);
+        lessonRepository.delete(lesson);
+        courseRepository.adjustLessonTotals(lesson.getCourse().getId(), -1, -minutes(lesson));
+        enrollmentRepository.syncCompletionStatus(lesson.getCourse().getId(), Instant.now());
+    }
+
+    /** Safety net for drift (manual SQL), run by one instance; the backfill itself is in V4 */
+    @Scheduled(cron = "${courses.totals.reconcile-cron:0 30 3 * * *}")
+    @CacheEvict(cacheNames = {CacheConfig.CATALOG, CacheConfig.COURSE_DETAILS}, allEntries = true)
+    public void reconcileLessonTotals() {
+        if (!jobLock.tryAcquire("courses-totals-reconcile")) return;
+        courseRepository.lockAll();
+        int drifted = courseRepository.reconcileLessonTotals();
+        if (drifted > 0) log.warn("Reconciled lesson totals for {} courses", drifted);
+    }
+
+    private Lesson findEditableLesson(UUID lessonId, User requestingUser) {
+        Lesson lesson = lessonRepository.findById(lessonId)
+                .orElseThrow(() -> new IllegalArgumentException("Lesson not found"));
+
+        if (!lesson.getCourse().getInstructor().getId().equals(requestingUser.getId())
+                && requestingUser.getRole() != User.Role.ADMIN) {
+            throw new AccessDeniedException("Only the instructor or admin can manage lessons");
+        }
+        return lesson;
+    }
+
+    private static int minutes(Lesson lesson) {
+        return lesson.getDurationMinutes() != null ? lesson.getDurationMinutes() : 0;
     }
 
+    @Transactional(readOnly = true)
     public long getEnrollmentCount(Course course) {
         return enrollmentRepository.countByCourse(course);
     }
@@ -1,8 +1,10 @@
 package com.codenestai.ads.service;
 
 import com.codenestai.ads.model.*;
+import com.codenestai.ads.repository.CourseRepository;
 import com.codenestai.ads.repository.EnrollmentRepository;
 import com.codenestai.ads.repository.LessonProgressRepository;
+import com.codenestai.ads.repository.LessonRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,12 +21,17 @@ public class EnrollmentService {
 
     private final EnrollmentRepository enrollmentRepository;
     private final LessonProgressRepository lessonProgressRepository;
+    private final LessonRepository lessonRepository;
+    private final CourseRepository courseRepository;
 
+    @Transactional(readOnly = true)
     public boolean isEnrolled(User user, Course course) {
         return enrollmentRepository.existsByUserAndCourse(user, course);
     }
 
-    public Enrollment enroll(User user, Course course, String paymentIntentId) {
+    public Enrollment enroll(User user, UUID courseId, String paymentIntentId) {
+        Course course = courseRepository.findById(courseId)
+                .orElseThrow(() -> new IllegalArgumentException("Course not found"));
         if (isEnrolled(user, course)) {
             throw new IllegalStateException("Already enrolled in this course");
         }
@@ -35,39 +42,60 @@ public class EnrollmentService {
                 .build());
     }
 
+    @Transactional(readOnly = true)
     public List<Enrollment> getUserEnrollments(User user) {
         return enrollmentRepository.findByUser(user);
     }
 
+    @Transactional(readOnly = true)
     public Optional<Enrollment> getEnrollment(User user, Course course) {
         return enrollmentRepository.findByUserAndCourse(user, course);
     }
 
-    public LessonProgress markLessonComplete(Enrollment enrollment, Lesson lesson) {
-        return lessonProgressRepository.findByEnrollmentAndLesson(enrollment, lesson)
-                .orElseGet(() -> lessonProgressRepository.save(
-                        LessonProgress.builder()
-                                .enrollment(enrollment)
-                                .lesson(lesson)
-                                .completedAt(Instant.now())
-                                .build()));
+    /** The caller's own enrollment, with its course fetched */
+    @Transactional(readOnly = true)
+    public Enrollment getOwnEnrollment(UUID enrollmentId, User user) {
+        return enrollmentRepository.findByIdAndUserId(enrollmentId, user.getId())
+                .orElseThrow(() -> new IllegalArgumentException("Enrollment not found"));
     }
 
-    public List<LessonProgress> getProgress(Enrollment enrollment) {
-        return lessonProgressRepository.findByEnrollment(enrollment);
+    /**
+     * Records a lesson as completed and returns the new completion percent. Membership is
+     * checked with a primary-key lookup, the insert is idempotent, and the enrollment's counter
+     * (and completion status) only moves when a new progress row was actually written. Cancelled
+     * and refunded enrollments take no further progress.
+     */
+    public int markLessonComplete(UUID enrollmentId, User user, UUID lessonId) {
+        Enrollment enrollment = getOwnEnrollment(enrollmentId, user);
+        if (enrollment.getStatus() == Enrollment.Status.CANCELLED || enrollment.getStatus() == Enrollment.Status.REFUNDED) {
+            throw new IllegalStateException("Enrollment is no longer active");
+        }
+        Course course = enrollment.getCourse();
+        if (!lessonRepository.existsByIdAndCourseId(lessonId, course.getId())) {
+            throw new IllegalArgumentException("Lesson not found in this course");
+        }
+        if (lessonProgressRepository.insertIfAbsent(UuidV7Generator.next(), enrollment.getId(), lessonId) == 1) {
+            enrollmentRepository.incrementCompletedLessons(enrollment.getId(), course.getTotalLessons(),
+                    Enrollment.Status.COMPLETED, Instant.now());
+        }
+        int completed = enrollmentRepository.findCompletedLessons(enrollment.getId()).orElse(0);
+        return completionPercent(completed, course.getTotalLessons());
     }
 
+    @Transactional(readOnly = true)
+    public List<UUID> getCompletedLessonIds(Enrollment enrollment) {
+        return lessonProgressRepository.findCompletedLessonIds(enrollment.getId());
+    }
+
+    /** Read-only: derived from the maintained counter, never counts rows or writes */
+    @Transactional(readOnly = true)
     public int getCompletionPercent(Enrollment enrollment) {
-        int total = enrollment.getCourse().getTotalLessons();
+        return completionPercent(enrollment.getCompletedLessons(), enrollment.getCourse().getTotalLessons());
+    }
+
+    private static int completionPercent(int completed, int total) {
         if (total == 0) return 0;
-        long completed = lessonProgressRepository.countByEnrollment(enrollment);
-        int percent = (int) ((completed * 100) / total);
-        if (percent == 100 && enrollment.getCompletedAt() == null) {
-            enrollment.setCompletedAt(Instant.now());
-            enrollment.setStatus(Enrollment.Status.COMPLETED);
-            enrollmentRepository.save(enrollment);
-        }
-        return percent;
+        return Math.min(100, (completed * 100) / total);
     }
 
     public void cancelEnrollment(UUID enrollmentId, User requestingUser) {
@@ -1,12 +1,22 @@
 package com.codenestai.ads.service;
 
+import com.codenestai.ads.config.CacheConfig;
+import com.codenestai.ads.dto.CursorPage;
+import com.codenestai.ads.dto.PageCursor;
 import com.codenestai.ads.model.*;
 import com.codenestai.ads.repository.*;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
@@ -16,45 +26,94 @@ import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 @Transactional
 public class ForumService {
 
     private final ForumCategoryRepository categoryRepository;
     private final ForumThreadRepository threadRepository;
     private final ForumReplyRepository replyRepository;
+    private final ForumReplyLikeRepository replyLikeRepository;
+    private final ThreadViewCounter viewCounter;
+    private final JobLock jobLock;
 
     // ─── Categories ───────────────────────────────────────────────────────────
 
+    /** Categories with their stats, from memory — any write that moves a counter clears it on commit */
+    @Cacheable(CacheConfig.FORUM_CATEGORIES)
+    @Transactional(readOnly = true)
     public List<ForumCategory> getCategories() {
         return categoryRepository.findAllByOrderByOrderIndexAsc();
     }
 
+    @Transactional(readOnly = true)
+    public Optional<String> getCategoriesVersion() {
+        return categoryRepository.findListVersion();
+    }
+
+    @Transactional(readOnly = true)
     public Optional<ForumCategory> getCategoryBySlug(String slug) {
         return categoryRepository.findBySlug(slug);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.FORUM_CATEGORIES, allEntries = true)
     public ForumCategory createCategory(ForumCategory category) {
+        category.setThreadCount(0);
+        category.setReplyCount(0);
+        category.setLastActivityAt(null);
+        category.setLastActiveThreadId(null);
         return categoryRepository.save(category);
     }
 
+    /**
+     * Nightly safety net for drift (manual SQL, missed updates), run by one instance. The category
+     * rows are locked before the recount, so writers still in flight commit first and are counted,
+     * and later ones apply their increments on top of the recomputed values.
+     */
+    @Scheduled(cron = "${forum.categories.reconcile-cron:0 45 3 * * *}")
+    @CacheEvict(cacheNames = CacheConfig.FORUM_CATEGORIES, allEntries = true)
+    public void reconcileCategoryStats() {
+        if (!jobLock.tryAcquire("forum-categories-reconcile")) return;
+        categoryRepository.lockAll();
+        int drifted = categoryRepository.reconcileStats();
+        if (drifted > 0) log.warn("Reconciled stats for {} forum categories", drifted);
+    }
+
     // ─── Threads ──────────────────────────────────────────────────────────────
 
+    /** Fixed feed order — any client sort is ignored so the page always comes off the feed index */
+    @Transactional(readOnly = true)
     public Page<ForumThread> getThreadsByCategory(ForumCategory category, Pageable pageable) {
-        return threadRepository.findByCategory(category, pageable);
+        Pageable page = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        return new PageImpl<>(threadRepository.findCategoryFeed(category, page), page, category.getThreadCount());
     }
 
+    @Transactional(readOnly = true)
+    public CursorPage<ForumThread> getThreadsByCategoryAfter(ForumCategory category, PageCursor after, Pageable limit) {
+        var slice = threadRepository.findByCategoryAfter(category, after.pinned(), after.at(), after.id(), limit);
+        return CursorPage.of(slice, t -> new PageCursor(t.getIsPinned(), t.getLastActivityAt(), t.getId()));
+    }
+
+    @Transactional(readOnly = true)
     public Optional<ForumThread> getThread(UUID id) {
         return threadRepository.findById(id);
     }
 
-    public ForumThread createThread(ForumThread thread) {
+    @CacheEvict(cacheNames = CacheConfig.FORUM_CATEGORIES, allEntries = true)
+    public ForumThread createThread(String categorySlug, ForumThread thread) {
+        thread.setCategory(categoryRepository.findBySlug(categorySlug)
+                .orElseThrow(() -> new IllegalArgumentException("Category not found")));
+        if (thread.getIsPinned() == null) thread.setIsPinned(false);
         thread.setLastActivityAt(Instant.now());
-        return threadRepository.save(thread);
+        ForumThread saved = threadRepository.save(thread);
+        categoryRepository.recordActivity(saved.getCategory().getId(), 1, 0, saved.getId(), saved.getLastActivityAt());
+        return saved;
     }
 
-    public void incrementViewCount(ForumThread thread) {
-        thread.setViewCount(thread.getViewCount() + 1);
-        threadRepository.save(thread);
+    /** Buffered in memory and flushed in batches — reading a thread does not write its row */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void recordView(UUID threadId) {
+        viewCounter.record(threadId);
     }
 
     public void lockThread(UUID id, User requestingUser) {
@@ -77,6 +136,7 @@ public class ForumService {
         threadRepository.save(thread);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.FORUM_CATEGORIES, allEntries = true)
     public void deleteThread(UUID id, User requestingUser) {
         ForumThread thread = threadRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Thread not found"));
@@ -84,24 +144,38 @@ public class ForumService {
                 && requestingUser.getRole() != User.Role.ADMIN) {
             throw new AccessDeniedException("Not authorised");
         }
+        UUID categoryId = thread.getCategory().getId();
+        int replies = (int) replyRepository.countByThreadId(id);
         threadRepository.delete(thread);
+        categoryRepository.removeActivity(categoryId, 1, replies);
+        categoryRepository.resetLastActivity(categoryId);
     }
 
     // ─── Replies ──────────────────────────────────────────────────────────────
 
+    @Transactional(readOnly = true)
     public Page<ForumReply> getReplies(ForumThread thread, Pageable pageable) {
         return replyRepository.findByThread(thread, pageable);
     }
 
-    public ForumReply addReply(ForumThread thread, ForumReply reply) {
-        if (thread.getIsLocked()) {
+    @Transactional(readOnly = true)
+    public CursorPage<ForumReply> getRepliesAfter(ForumThread thread, PageCursor after, Pageable limit) {
+        var slice = replyRepository.findByThreadAfter(thread, after.at(), after.id(), limit);
+        return CursorPage.of(slice, r -> PageCursor.of(r.getCreatedAt(), r.getId()));
+    }
+
+    /** One conditional UPDATE bumps the counter and checks the lock, so parallel replies never lose a count */
+    @CacheEvict(cacheNames = CacheConfig.FORUM_CATEGORIES, allEntries = true)
+    public ForumReply addReply(UUID threadId, ForumReply reply) {
+        ForumThread thread = threadRepository.findById(threadId)
+                .orElseThrow(() -> new IllegalArgumentException("Thread not found"));
+        Instant now = Instant.now();
+        if (threadRepository.recordReply(thread.getId(), now) == 0) {
             throw new IllegalStateException("Thread is locked — no new replies allowed");
         }
         reply.setThread(thread);
         ForumReply saved = replyRepository.save(reply);
-        thread.setReplyCount(thread.getReplyCount() + 1);
-        thread.setLastActivityAt(Instant.now());
-        threadRepository.save(thread);
+        categoryRepository.recordActivity(thread.getCategory().getId(), 0, 1, thread.getId(), now);
         return saved;
     }
 
@@ -117,6 +191,18 @@ public class ForumService {
         return replyRepository.save(reply);
     }
 
+    /** Idempotent per user — returns the reply's like count afterwards */
+    public int likeReply(UUID replyId, User user) {
+        if (!replyRepository.existsById(replyId)) {
+            throw new IllegalArgumentException("Reply not found");
+        }
+        if (replyLikeRepository.insertIfAbsent(UuidV7Generator.next(), replyId, user.getId()) == 1) {
+            replyRepository.incrementLikeCount(replyId);
+        }
+        return replyRepository.findLikeCount(replyId).orElse(0);
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.FORUM_CATEGORIES, allEntries = true)
     public void deleteReply(UUID replyId, User requestingUser) {
         ForumReply reply = replyRepository.findById(replyId)
                 .orElseThrow(() -> new IllegalArgumentException("Reply not found"));
@@ -126,7 +212,7 @@ public class ForumService {
         }
         ForumThread thread = reply.getThread();
         replyRepository.delete(reply);
-        thread.setReplyCount(Math.max(0, thread.getReplyCount() - 1));
-        threadRepository.save(thread);
+        threadRepository.decrementReplyCount(thread.getId());
+        categoryRepository.removeActivity(thread.getCategory().getId(), 0, 1);
     }
 }
@@ -0,0 +1,22 @@
+package com.codenestai.ads.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps a scheduled maintenance job to one instance at a time. Every instance fires the same
+ * cron; the first to take the job's transaction-scoped Postgres advisory lock does the work and
+ * the rest skip it. Must be called inside a read-write transaction, which releases the lock.
+ */
+@Component
+@RequiredArgsConstructor
+public class JobLock {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public boolean tryAcquire(String job) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "select pg_try_advisory_xact_lock(hashtext(?))", Boolean.class, job));
+    }
+}
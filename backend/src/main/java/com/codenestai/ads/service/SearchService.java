@@ -0,0 +1,123 @@
+package com.codenestai.ads.service;
+
+import com.codenestai.ads.dto.CursorPage;
+import com.codenestai.ads.dto.search.SearchCursor;
+import com.codenestai.ads.dto.search.SearchHit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Ranked full-text search over published courses, community posts and forum threads (a thread
+ * also matches through its replies). Backed by the trigger-maintained {@code search_vector}
+ * columns and GIN indexes from {@code db/migration/V2__full_text_search.sql}; headlines are only
+ * built for the rows on the page.
+ */
+@Service
+public class SearchService {
+
+    private static final int MAX_QUERY_LENGTH = 200;
+
+    // The tsquery is written out in every filter rather than taken from the q CTE so the planner
+    // sees it as a constant and can estimate its selectivity. Each source then contributes at most
+    // :candidates matches before ranking: for selective queries that is every match; for terms
+    // that hit a large share of a table it bounds the ts_rank work at the cost of ranking a
+    // sample rather than every match. Ids are UUIDv7, so the sample is the newest matches, and it
+    // is the same on every call so cursor pages neither skip nor repeat hits. Selective queries
+    // still go through the GIN indexes; only for terms in most rows does the planner walk the
+    // primary key backwards, which stops after :candidates hits. A thread matched only through its
+    // replies carries its best-ranked reply, whose text the headline is then built from.
+    private static final String SEARCH_SQL = """
+            WITH q AS (SELECT websearch_to_tsquery('english', :q) AS query),
+            hits AS (
+                SELECT 'COURSE' AS type, c.id, NULL::uuid AS reply_id, ts_rank(c.search_vector, q.query) AS rank
+                FROM (SELECT id, search_vector FROM courses
+                      WHERE 'COURSE' IN (:types) AND status = 'PUBLISHED'
+                        AND search_vector @@ websearch_to_tsquery('english', :q)
+                      ORDER BY id DESC LIMIT :candidates) c, q
+                UNION ALL
+                SELECT 'POST', p.id, NULL, ts_rank(p.search_vector, q.query)
+                FROM (SELECT id, search_vector FROM posts
+                      WHERE 'POST' IN (:types) AND search_vector @@ websearch_to_tsquery('english', :q)
+                      ORDER BY id DESC LIMIT :candidates) p, q
+                UNION ALL
+                SELECT 'THREAD', m.id,
+                       CASE WHEN bool_and(m.reply_id IS NOT NULL)
+                            THEN (array_agg(m.reply_id ORDER BY ts_rank(m.search_vector, q.query) DESC, m.reply_id))[1] END,
+                       max(ts_rank(m.search_vector, q.query))
+                FROM (SELECT * FROM (SELECT id, NULL::uuid AS reply_id, search_vector FROM forum_threads
+                                     WHERE 'THREAD' IN (:types) AND search_vector @@ websearch_to_tsquery('english', :q)
+                                     ORDER BY id DESC LIMIT :candidates) t
+                      UNION ALL
+                      SELECT * FROM (SELECT thread_id, id, search_vector FROM forum_replies
+                                     WHERE 'THREAD' IN (:types) AND search_vector @@ websearch_to_tsquery('english', :q)
+                                     ORDER BY id DESC LIMIT :candidates) r) m, q
+                GROUP BY m.id
+            ),
+            page AS (
+                SELECT * FROM hits
+                WHERE rank < :rank OR (rank = :rank AND id > :id)
+                ORDER BY rank DESC, id
+                LIMIT :limit
+            )
+            SELECT page.type, page.id, page.rank, c.slug,
+                   coalesce(c.title, p.title, t.title) AS title,
+                   ts_headline('english', coalesce(c.description, c.short_description, p.content, r.content, t.body, ''), q.query,
+                               'StartSel=<mark>, StopSel=</mark>, MaxWords=30, MinWords=10, MaxFragments=2') AS headline
+            FROM page CROSS JOIN q
+            LEFT JOIN courses c ON page.type = 'COURSE' AND c.id = page.id
+            LEFT JOIN posts p ON page.type = 'POST' AND p.id = page.id
+            LEFT JOIN forum_threads t ON page.type = 'THREAD' AND t.id = page.id
+            LEFT JOIN forum_replies r ON r.id = page.reply_id
+            ORDER BY page.rank DESC, page.id""";
+
+    private static final RowMapper<SearchHit> HIT = (rs, i) -> new SearchHit(
+            SearchHit.Type.valueOf(rs.getString("type")),
+            rs.getObject("id", UUID.class),
+            rs.getString("slug"),
+            rs.getString("title"),
+            rs.getString("headline"),
+            rs.getFloat("rank"));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final int maxCandidates;
+
+    public SearchService(NamedParameterJdbcTemplate jdbcTemplate,
+                         @Value("${search.max-candidates:1000}") int maxCandidates) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxCandidates = maxCandidates;
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<SearchHit> search(String query, Collection<SearchHit.Type> types, SearchCursor after, int size) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query must not be blank");
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("Search query is too long");
+        }
+        Collection<SearchHit.Type> scope = types == null || types.isEmpty() ? Set.of(SearchHit.Type.values()) : types;
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("q", query)
+                .addValue("types", scope.stream().map(Enum::name).toList())
+                .addValue("rank", after.rank())
+                .addValue("id", after.id())
+                .addValue("limit", size + 1)
+                .addValue("candidates", maxCandidates);
+        List<SearchHit> hits = jdbcTemplate.query(SEARCH_SQL, params, HIT);
+
+        boolean hasNext = hits.size() > size;
+        List<SearchHit> content = hasNext ? hits.subList(0, size) : hits;
+        String next = hasNext ? new SearchCursor(content.get(size - 1).getRank(), content.get(size - 1).getId()).encode() : null;
+        return new CursorPage<>(content, next, hasNext);
+    }
+}
@@ -0,0 +1,96 @@
+package com.codenestai.ads.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Write-behind view counter for forum threads. Views are accumulated in memory and flushed to
+ * {@code forum_threads.view_count} in a single UPDATE every {@code forum.views.flush-interval},
+ * so reading a thread never writes its row. Counts are eventually consistent; a crash loses at
+ * most one interval of views, and a clean shutdown flushes whatever is pending.
+ *
+ * <p>Both sides touch a thread's count only through atomic map operations: {@code record} merges
+ * into it and {@code flush} removes it, so a view recorded while a flush is running lands either
+ * in that flush or in a fresh entry for the next one.
+ */
+@Component
+@Slf4j
+public class ThreadViewCounter {
+
+    private static final String FLUSH_SQL = """
+            UPDATE forum_threads t SET view_count = t.view_count + v.n
+            FROM unnest(?::uuid[], ?::bigint[]) AS v(id, n)
+            WHERE t.id = v.id""";
+
+    private final Map<UUID, Long> pending = new ConcurrentHashMap<>();
+    private final JdbcTemplate jdbcTemplate;
+    private final Timer flushTimer;
+    private volatile Instant lastFlushAt = Instant.now();
+
+    public ThreadViewCounter(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.flushTimer = Timer.builder("forum.views.flush")
+                .description("Time to write buffered thread views to the database")
+                .register(meterRegistry);
+        Gauge.builder("forum.views.pending", pending, p -> p.values().stream().mapToLong(Long::longValue).sum())
+                .description("Thread views recorded but not yet flushed")
+                .register(meterRegistry);
+        Gauge.builder("forum.views.flush.lag", this, c -> Duration.between(c.lastFlushAt, Instant.now()).toMillis() / 1000.0)
+                .description("Seconds since buffered views were last flushed")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    public void record(UUID threadId) {
+        pending.merge(threadId, 1L, Long::sum);
+    }
+
+    @Scheduled(fixedDelayString = "${forum.views.flush-interval:PT10S}")
+    public void flush() {
+        List<UUID> ids = new ArrayList<>();
+        List<Long> counts = new ArrayList<>();
+        for (UUID id : pending.keySet()) {
+            Long n = pending.remove(id);
+            if (n != null) {
+                ids.add(id);
+                counts.add(n);
+            }
+        }
+        if (ids.isEmpty()) {
+            lastFlushAt = Instant.now();
+            return;
+        }
+
+        try {
+            flushTimer.record(() -> jdbcTemplate.update(FLUSH_SQL, ps -> {
+                ps.setArray(1, ps.getConnection().createArrayOf("uuid", ids.toArray()));
+                ps.setArray(2, ps.getConnection().createArrayOf("bigint", counts.toArray()));
+            }));
+            lastFlushAt = Instant.now();
+        } catch (RuntimeException e) {
+            log.warn("Failed to flush {} thread view counts, will retry: {}", ids.size(), e.getMessage());
+            for (int i = 0; i < ids.size(); i++) {
+                pending.merge(ids.get(i), counts.get(i), Long::sum);
+            }
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+}
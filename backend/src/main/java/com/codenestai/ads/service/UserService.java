@@ -0,0 +1,48 @@
+package com.codenestai.ads.service;
+
+import com.codenestai.ads.config.CacheConfig;
+import com.codenestai.ads.dto.auth.UpdateProfileRequest;
+import com.codenestai.ads.model.User;
+import com.codenestai.ads.repository.CourseRepository;
+import com.codenestai.ads.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class UserService {
+
+    private final UserRepository userRepository;
+    private final CourseRepository courseRepository;
+    private final CacheManager cacheManager;
+
+    /**
+     * Applies the non-blank fields of the request. The user is loaded inside this write
+     * transaction, so the edit starts from the primary's copy rather than a lagging replica's.
+     * Catalog cards and course pages show their instructor's name and profile, so an instructor's
+     * edit clears both course caches on commit.
+     */
+    public Optional<User> updateProfile(UUID userId, UpdateProfileRequest req) {
+        return userRepository.findById(userId).map(user -> {
+            if (req.getFirstName() != null && !req.getFirstName().isBlank())
+                user.setFirstName(req.getFirstName());
+            if (req.getLastName() != null && !req.getLastName().isBlank())
+                user.setLastName(req.getLastName());
+            if (req.getBio() != null)
+                user.setBio(req.getBio().isBlank() ? null : req.getBio());
+            if (req.getAvatarUrl() != null)
+                user.setAvatarUrl(req.getAvatarUrl().isBlank() ? null : req.getAvatarUrl());
+            if (courseRepository.existsByInstructorId(userId)) {
+                cacheManager.getCache(CacheConfig.CATALOG).clear();
+                cacheManager.getCache(CacheConfig.COURSE_DETAILS).clear();
+            }
+            return userRepository.save(user);
+        });
+    }
+}
@@ -0,0 +1,150 @@
+-- Baseline: the schema Hibernate's ddl-auto=update had built from the entities before Flyway took
+-- over. Databases created that way are baselined at this version (spring.flyway.baseline-on-migrate)
+-- and skip it, so nothing added since belongs here — later objects go in V4 onwards.
+
+CREATE TABLE users (
+    id              uuid         NOT NULL,
+    email           varchar(255) NOT NULL UNIQUE,
+    password_hash   varchar(255),
+    first_name      varchar(255) NOT NULL,
+    last_name       varchar(255) NOT NULL,
+    avatar_url      varchar(255),
+    bio             varchar(255),
+    role            varchar(255) NOT NULL CHECK (role IN ('STUDENT','INSTRUCTOR','ADMIN')),
+    auth_provider   varchar(255) NOT NULL CHECK (auth_provider IN ('LOCAL','GOOGLE')),
+    google_id       varchar(255),
+    is_active       boolean      NOT NULL,
+    created_at      timestamp(6) with time zone,
+    updated_at      timestamp(6) with time zone,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE courses (
+    id                uuid          NOT NULL,
+    instructor_id     uuid          NOT NULL,
+    title             varchar(255)  NOT NULL,
+    slug              varchar(255)  NOT NULL UNIQUE,
+    short_description varchar(255),
+    description       text,
+    thumbnail_url     varchar(255),
+    preview_video_url varchar(255),
+    price             numeric(10,2) NOT NULL,
+    currency          varchar(255),
+    level             varchar(255)  NOT NULL CHECK (level IN ('BEGINNER','INTERMEDIATE','ADVANCED')),
+    status            varchar(255)  NOT NULL CHECK (status IN ('DRAFT','PUBLISHED','ARCHIVED')),
+    duration_minutes  integer,
+    total_lessons     integer,
+    created_at        timestamp(6) with time zone,
+    updated_at        timestamp(6) with time zone,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_courses_instructor FOREIGN KEY (instructor_id) REFERENCES users
+);
+
+CREATE TABLE lessons (
+    id               uuid         NOT NULL,
+    course_id        uuid         NOT NULL,
+    title            varchar(255) NOT NULL,
+    slug             varchar(255) NOT NULL UNIQUE,
+    content          text,
+    video_url        varchar(255),
+    duration_minutes integer,
+    order_index      integer      NOT NULL,
+    is_free_preview  boolean,
+    created_at       timestamp(6) with time zone,
+    updated_at       timestamp(6) with time zone,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_lessons_course FOREIGN KEY (course_id) REFERENCES courses
+);
+
+CREATE TABLE enrollments (
+    id                uuid         NOT NULL,
+    user_id           uuid         NOT NULL,
+    course_id         uuid         NOT NULL,
+    status            varchar(255) NOT NULL CHECK (status IN ('ACTIVE','COMPLETED','CANCELLED','REFUNDED')),
+    payment_intent_id varchar(255),
+    enrolled_at       timestamp(6) with time zone,
+    completed_at      timestamp(6) with time zone,
+    PRIMARY KEY (id),
+    UNIQUE (user_id, course_id),
+    CONSTRAINT fk_enrollments_user FOREIGN KEY (user_id) REFERENCES users,
+    CONSTRAINT fk_enrollments_course FOREIGN KEY (course_id) REFERENCES courses
+);
+
+CREATE TABLE lesson_progress (
+    id            uuid NOT NULL,
+    enrollment_id uuid NOT NULL,
+    lesson_id     uuid NOT NULL,
+    completed_at  timestamp(6) with time zone,
+    PRIMARY KEY (id),
+    UNIQUE (enrollment_id, lesson_id),
+    CONSTRAINT fk_lesson_progress_enrollment FOREIGN KEY (enrollment_id) REFERENCES enrollments,
+    CONSTRAINT fk_lesson_progress_lesson FOREIGN KEY (lesson_id) REFERENCES lessons
+);
+
+CREATE TABLE posts (
+    id         uuid         NOT NULL,
+    author_id  uuid         NOT NULL,
+    title      varchar(255) NOT NULL,
+    content    text         NOT NULL,
+    type       varchar(255) NOT NULL CHECK (type IN ('DISCUSSION','QUESTION','SHOWCASE')),
+    like_count integer,
+    created_at timestamp(6) with time zone,
+    updated_at timestamp(6) with time zone,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_posts_author FOREIGN KEY (author_id) REFERENCES users
+);
+
+CREATE TABLE post_comments (
+    id         uuid    NOT NULL,
+    post_id    uuid    NOT NULL,
+    author_id  uuid    NOT NULL,
+    content    text    NOT NULL,
+    like_count integer,
+    created_at timestamp(6) with time zone,
+    updated_at timestamp(6) with time zone,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_post_comments_post FOREIGN KEY (post_id) REFERENCES posts,
+    CONSTRAINT fk_post_comments_author FOREIGN KEY (author_id) REFERENCES users
+);
+
+CREATE TABLE forum_categories (
+    id          uuid         NOT NULL,
+    name        varchar(255) NOT NULL,
+    slug        varchar(255) NOT NULL UNIQUE,
+    description varchar(255),
+    icon_url    varchar(255),
+    order_index integer      NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE forum_threads (
+    id               uuid         NOT NULL,
+    category_id      uuid         NOT NULL,
+    author_id        uuid         NOT NULL,
+    title            varchar(255) NOT NULL,
+    body             text         NOT NULL,
+    is_pinned        boolean,
+    is_locked        boolean,
+    view_count       integer,
+    reply_count      integer,
+    created_at       timestamp(6) with time zone,
+    updated_at       timestamp(6) with time zone,
+    last_activity_at timestamp(6) with time zone,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_forum_threads_category FOREIGN KEY (category_id) REFERENCES forum_categories,
+    CONSTRAINT fk_forum_threads_author FOREIGN KEY (author_id) REFERENCES users
+);
+
+CREATE TABLE forum_replies (
+    id          uuid    NOT NULL,
+    thread_id   uuid    NOT NULL,
+    author_id   uuid    NOT NULL,
+    content     text    NOT NULL,
+    is_accepted boolean,
+    like_count  integer,
+    created_at  timestamp(6) with time zone,
+    updated_at  timestamp(6) with time zone,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_forum_replies_thread FOREIGN KEY (thread_id) REFERENCES forum_threads,
+    CONSTRAINT fk_forum_replies_author FOREIGN KEY (author_id) REFERENCES users
+);
@@ -0,0 +1,107 @@
+-- Full-text search vectors for SearchService: a plain tsvector column per table, kept in step by
+-- a trigger that skips the work unless the searchable text changed, so counter updates (likes,
+-- views, reply counts) stay cheap. A STORED generated column would be recomputed on every row
+-- update, counters included, which is why these are triggers.
+--
+-- Idempotent, so databases that already ran the old startup script (db/search.sql) apply it as a
+-- no-op apart from re-creating the functions and triggers.
+
+ALTER TABLE courses ADD COLUMN IF NOT EXISTS search_vector tsvector;
+
+CREATE OR REPLACE FUNCTION courses_search_vector_update() RETURNS trigger LANGUAGE plpgsql AS $$
+BEGIN
+    IF TG_OP = 'INSERT'
+       OR NEW.title IS DISTINCT FROM OLD.title
+       OR NEW.short_description IS DISTINCT FROM OLD.short_description
+       OR NEW.description IS DISTINCT FROM OLD.description THEN
+        NEW.search_vector :=
+            setweight(to_tsvector('english', coalesce(NEW.title, '')), 'A') ||
+            setweight(to_tsvector('english', coalesce(NEW.short_description, '')), 'B') ||
+            setweight(to_tsvector('english', coalesce(NEW.description, '')), 'C');
+    END IF;
+    RETURN NEW;
+END $$;
+
+DROP TRIGGER IF EXISTS courses_search_vector ON courses;
+CREATE TRIGGER courses_search_vector BEFORE INSERT OR UPDATE ON courses
+    FOR EACH ROW EXECUTE FUNCTION courses_search_vector_update();
+
+UPDATE courses SET search_vector =
+    setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+    setweight(to_tsvector('english', coalesce(short_description, '')), 'B') ||
+    setweight(to_tsvector('english', coalesce(description, '')), 'C')
+WHERE search_vector IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_courses_search ON courses USING gin (search_vector);
+
+ALTER TABLE posts ADD COLUMN IF NOT EXISTS search_vector tsvector;
+
+CREATE OR REPLACE FUNCTION posts_search_vector_update() RETURNS trigger LANGUAGE plpgsql AS $$
+BEGIN
+    IF TG_OP = 'INSERT'
+       OR NEW.title IS DISTINCT FROM OLD.title
+       OR NEW.content IS DISTINCT FROM OLD.content THEN
+        NEW.search_vector :=
+            setweight(to_tsvector('english', coalesce(NEW.title, '')), 'A') ||
+            setweight(to_tsvector('english', coalesce(NEW.content, '')), 'B');
+    END IF;
+    RETURN NEW;
+END $$;
+
+DROP TRIGGER IF EXISTS posts_search_vector ON posts;
+CREATE TRIGGER posts_search_vector BEFORE INSERT OR UPDATE ON posts
+    FOR EACH ROW EXECUTE FUNCTION posts_search_vector_update();
+
+UPDATE posts SET search_vector =
+    setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+    setweight(to_tsvector('english', coalesce(content, '')), 'B')
+WHERE search_vector IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_posts_search ON posts USING gin (search_vector);
+
+ALTER TABLE forum_threads ADD COLUMN IF NOT EXISTS search_vector tsvector;
+
+CREATE OR REPLACE FUNCTION forum_threads_search_vector_update() RETURNS trigger LANGUAGE plpgsql AS $$
+BEGIN
+    IF TG_OP = 'INSERT'
+       OR NEW.title IS DISTINCT FROM OLD.title
+       OR NEW.body IS DISTINCT FROM OLD.body THEN
+        NEW.search_vector :=
+            setweight(to_tsvector('english', coalesce(NEW.title, '')), 'A') ||
+            setweight(to_tsvector('english', coalesce(NEW.body, '')), 'B');
+    END IF;
+    RETURN NEW;
+END $$;
+
+DROP TRIGGER IF EXISTS forum_threads_search_vector ON forum_threads;
+CREATE TRIGGER forum_threads_search_vector BEFORE INSERT OR UPDATE ON forum_threads
+    FOR EACH ROW EXECUTE FUNCTION forum_threads_search_vector_update();
+
+UPDATE forum_threads SET search_vector =
+    setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+    setweight(to_tsvector('english', coalesce(body, '')), 'B')
+WHERE search_vector IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_forum_threads_search ON forum_threads USING gin (search_vector);
+
+ALTER TABLE forum_replies ADD COLUMN IF NOT EXISTS search_vector tsvector;
+
+CREATE OR REPLACE FUNCTION forum_replies_search_vector_update() RETURNS trigger LANGUAGE plpgsql AS $$
+BEGIN
+    IF TG_OP = 'INSERT'
+       OR NEW.content IS DISTINCT FROM OLD.content THEN
+        NEW.search_vector :=
+            setweight(to_tsvector('english', coalesce(NEW.content, '')), 'B');
+    END IF;
+    RETURN NEW;
+END $$;
+
+DROP TRIGGER IF EXISTS forum_replies_search_vector ON forum_replies;
+CREATE TRIGGER forum_replies_search_vector BEFORE INSERT OR UPDATE ON forum_replies
+    FOR EACH ROW EXECUTE FUNCTION forum_replies_search_vector_update();
+
+UPDATE forum_replies SET search_vector =
+    setweight(to_tsvector('english', coalesce(content, '')), 'B')
+WHERE search_vector IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_forum_replies_search ON forum_replies USING gin (search_vector);
@@ -0,0 +1,38 @@
+-- Indexes for the repository finders. Postgres does not index foreign keys on its own, so every
+-- lookup by a parent id was a sequential scan. Each index is named after the query it serves;
+-- lookups already covered by a unique constraint's leading column are listed instead of indexed
+-- twice:
+--   enrollments(user_id)               — UNIQUE (user_id, course_id)       findByUser, findByUserAndCourse
+--   lesson_progress(enrollment_id)     — UNIQUE (enrollment_id, lesson_id) findCompletedLessonIds, insertIfAbsent
+--   post_likes / forum_reply_likes     — UNIQUE (post_id | reply_id, user_id)
+--
+-- IF NOT EXISTS because idx_forum_threads_category_feed was created by ddl-auto on older databases.
+
+-- Courses: catalog listings filter on status (and level) and page by (created_at, id)
+CREATE INDEX IF NOT EXISTS idx_courses_status_created ON courses (status, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_courses_status_level_created ON courses (status, level, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_courses_instructor ON courses (instructor_id);
+
+-- Lessons in course order; also the lesson totals reconcile and the lessons ETag
+CREATE INDEX IF NOT EXISTS idx_lessons_course_order ON lessons (course_id, order_index);
+
+-- Enrollment counts per course
+CREATE INDEX IF NOT EXISTS idx_enrollments_course ON enrollments (course_id);
+
+-- Progress rows removed or counted when a lesson is deleted
+CREATE INDEX IF NOT EXISTS idx_lesson_progress_lesson ON lesson_progress (lesson_id);
+
+-- Community feed, newest first, optionally by type; comments under a post in order
+CREATE INDEX IF NOT EXISTS idx_posts_created ON posts (created_at, id);
+CREATE INDEX IF NOT EXISTS idx_posts_type_created ON posts (type, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_posts_author ON posts (author_id);
+CREATE INDEX IF NOT EXISTS idx_post_comments_post_created ON post_comments (post_id, created_at);
+
+-- Forum: category feed (pinned first, recent activity), replies in thread order, threads by author
+CREATE INDEX IF NOT EXISTS idx_forum_threads_category_feed
+    ON forum_threads (category_id, is_pinned DESC, last_activity_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_forum_threads_author ON forum_threads (author_id);
+CREATE INDEX IF NOT EXISTS idx_forum_replies_thread_created ON forum_replies (thread_id, created_at, id);
+
+-- Google sign-in looks users up by subject id
+CREATE INDEX IF NOT EXISTS idx_users_google ON users (google_id);
@@ -0,0 +1,66 @@
+-- Per-user like rows and the denormalized counters that came after the baseline schema, plus the
+-- one-time backfill of those counters from the rows they summarize. The running app only ever
+-- adjusts them in place; the nightly reconcile jobs catch any later drift.
+--
+-- IF NOT EXISTS because development databases built by ddl-auto=update may already have them.
+
+-- ─── Likes: one row per user, so liking is idempotent ───────────────────────
+
+CREATE TABLE IF NOT EXISTS post_likes (
+    id         uuid NOT NULL,
+    post_id    uuid NOT NULL,
+    user_id    uuid NOT NULL,
+    created_at timestamp(6) with time zone,
+    PRIMARY KEY (id),
+    UNIQUE (post_id, user_id),
+    CONSTRAINT fk_post_likes_post FOREIGN KEY (post_id) REFERENCES posts ON DELETE CASCADE,
+    CONSTRAINT fk_post_likes_user FOREIGN KEY (user_id) REFERENCES users
+);
+
+CREATE TABLE IF NOT EXISTS forum_reply_likes (
+    id         uuid NOT NULL,
+    reply_id   uuid NOT NULL,
+    user_id    uuid NOT NULL,
+    created_at timestamp(6) with time zone,
+    PRIMARY KEY (id),
+    UNIQUE (reply_id, user_id),
+    CONSTRAINT fk_forum_reply_likes_reply FOREIGN KEY (reply_id) REFERENCES forum_replies ON DELETE CASCADE,
+    CONSTRAINT fk_forum_reply_likes_user FOREIGN KEY (user_id) REFERENCES users
+);
+
+-- ─── Counters ────────────────────────────────────────────────────────────────
+
+ALTER TABLE enrollments ADD COLUMN IF NOT EXISTS completed_lessons integer NOT NULL DEFAULT 0;
+
+ALTER TABLE forum_categories
+    ADD COLUMN IF NOT EXISTS thread_count          integer NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS reply_count           integer NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS last_activity_at      timestamp(6) with time zone,
+    ADD COLUMN IF NOT EXISTS last_active_thread_id uuid;
+
+-- ─── Backfill ────────────────────────────────────────────────────────────────
+
+-- Completed lessons per enrollment
+UPDATE enrollments e SET completed_lessons = p.n
+FROM (SELECT enrollment_id, count(*)::int AS n FROM lesson_progress GROUP BY enrollment_id) p
+WHERE e.id = p.enrollment_id AND e.completed_lessons <> p.n;
+
+-- Lesson totals per course
+UPDATE courses c SET total_lessons = coalesce(l.n, 0), duration_minutes = coalesce(l.minutes, 0)
+FROM courses c2
+LEFT JOIN (SELECT course_id, count(*)::int AS n, sum(coalesce(duration_minutes, 0))::int AS minutes
+           FROM lessons GROUP BY course_id) l ON l.course_id = c2.id
+WHERE c.id = c2.id
+  AND (c.total_lessons IS DISTINCT FROM coalesce(l.n, 0) OR c.duration_minutes IS DISTINCT FROM coalesce(l.minutes, 0));
+
+-- Thread and reply counts and last activity per forum category
+UPDATE forum_categories c SET thread_count = s.threads, reply_count = s.replies,
+                              last_activity_at = s.last_at, last_active_thread_id = s.last_id
+FROM (SELECT c2.id, count(DISTINCT t.id)::int AS threads, count(r.id)::int AS replies,
+             max(t.last_activity_at) AS last_at,
+             (array_agg(t.id ORDER BY t.last_activity_at DESC NULLS LAST, t.id DESC))[1] AS last_id
+      FROM forum_categories c2
+      LEFT JOIN forum_threads t ON t.category_id = c2.id
+      LEFT JOIN forum_replies r ON r.thread_id = t.id
+      GROUP BY c2.id) s
+WHERE c.id = s.id;
@@ -0,0 +1,17 @@
+-- The cursor feed seeks forum threads with a row comparison over (is_pinned, last_activity_at, id).
+-- A row comparison with a null column is itself null, so a thread missing either value dropped out
+-- of every cursor page. The app writes both on create; fill in rows from before it did and hold
+-- the columns to that.
+
+UPDATE forum_threads SET is_pinned = false WHERE is_pinned IS NULL;
+
+-- Last activity is the newest reply, or the thread itself when it has none
+UPDATE forum_threads t SET last_activity_at = coalesce(
+        (SELECT max(r.created_at) FROM forum_replies r WHERE r.thread_id = t.id),
+        t.created_at, now())
+WHERE t.last_activity_at IS NULL;
+
+ALTER TABLE forum_threads
+    ALTER COLUMN is_pinned SET DEFAULT false,
+    ALTER COLUMN is_pinned SET NOT NULL,
+    ALTER COLUMN last_activity_at SET NOT NULL;
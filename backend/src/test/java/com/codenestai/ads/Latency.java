@@ -0,0 +1,28 @@
+package com.codenestai.ads;
+
+import java.util.Arrays;
+
+/** Wall-clock latency percentiles of a call, in milliseconds, measured after a warm-up */
+public record Latency(double p50, double p99, double max) {
+
+    public static Latency of(int warmups, int samples, Runnable call) {
+        for (int i = 0; i < warmups; i++) call.run();
+        double[] millis = new double[samples];
+        for (int i = 0; i < samples; i++) {
+            long start = System.nanoTime();
+            call.run();
+            millis[i] = (System.nanoTime() - start) / 1e6;
+        }
+        Arrays.sort(millis);
+        return new Latency(percentile(millis, 50), percentile(millis, 99), millis[samples - 1]);
+    }
+
+    private static double percentile(double[] sorted, int p) {
+        return sorted[Math.max(0, (int) Math.ceil(p / 100.0 * sorted.length) - 1)];
+    }
+
+    @Override
+    public String toString() {
+        return String.format("p50 %7.2f ms   p99 %7.2f ms   max %7.2f ms", p50, p99, max);
+    }
+}
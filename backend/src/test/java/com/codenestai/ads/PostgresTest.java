@@ -0,0 +1,29 @@
+package com.codenestai.ads;
+
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The full application against a real Postgres: set {@code TEST_JDBC_URL} (and
+ * {@code TEST_PSQL_USER} / {@code TEST_PSQL_PASSWORD}, default postgres/postgres) to a scratch
+ * database and Flyway builds the schema on first use. Skipped when the variable is not set.
+ *
+ * <pre>TEST_JDBC_URL=jdbc:postgresql://localhost:5432/ads_test mvn test</pre>
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestData.class)
+@EnabledIfEnvironmentVariable(named = "TEST_JDBC_URL", matches = ".+")
+public @interface PostgresTest {
+}
@@ -0,0 +1,130 @@
+package com.codenestai.ads;
+
+import com.codenestai.ads.model.*;
+import com.codenestai.ads.repository.EnrollmentRepository;
+import com.codenestai.ads.repository.ForumCategoryRepository;
+import com.codenestai.ads.repository.PostRepository;
+import com.codenestai.ads.repository.UserRepository;
+import com.codenestai.ads.service.CourseService;
+import com.codenestai.ads.service.ForumService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.test.context.TestComponent;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * Fixtures for {@link PostgresTest}s. Every row gets a unique slug or email, so tests can share
+ * one scratch database and run repeatedly without cleaning up.
+ */
+@TestComponent
+@RequiredArgsConstructor
+public class TestData {
+
+    private final UserRepository userRepository;
+    private final PostRepository postRepository;
+    private final ForumCategoryRepository categoryRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final CourseService courseService;
+    private final ForumService forumService;
+
+    public User user(User.Role role) {
+        return users(1, role).get(0);
+    }
+
+    public List<User> users(int count, User.Role role) {
+        return userRepository.saveAll(IntStream.range(0, count)
+                .mapToObj(i -> User.builder()
+                        .email("user-" + unique() + "@test.local")
+                        .firstName("Test")
+                        .lastName("User " + i)
+                        .role(role)
+                        .build())
+                .toList());
+    }
+
+    public Course course(User instructor) {
+        return courseService.createCourse(Course.builder()
+                .title("Test course")
+                .slug("course-" + unique())
+                .shortDescription("A course made by a test")
+                .price(BigDecimal.ZERO)
+                .status(Course.Status.PUBLISHED)
+                .instructor(instructor)
+                .build());
+    }
+
+    public Lesson lesson(Course course, int orderIndex) {
+        return courseService.addLesson(course.getId(), Lesson.builder()
+                .title("Lesson " + orderIndex)
+                .slug("lesson-" + unique())
+                .content("Lesson body")
+                .durationMinutes(5)
+                .orderIndex(orderIndex)
+                .build());
+    }
+
+    public Enrollment enrollment(User student, Course course) {
+        return enrollmentRepository.save(Enrollment.builder().user(student).course(course).build());
+    }
+
+    public Post post(User author) {
+        return postRepository.save(Post.builder()
+                .author(author)
+                .title("Test post")
+                .content("Post body")
+                .build());
+    }
+
+    public ForumCategory category() {
+        String slug = "category-" + unique();
+        return categoryRepository.save(ForumCategory.builder().name(slug).slug(slug).build());
+    }
+
+    public ForumThread thread(ForumCategory category, User author) {
+        return forumService.createThread(category.getSlug(), ForumThread.builder()
+                .author(author)
+                .title("Test thread")
+                .body("Thread body")
+                .build());
+    }
+
+    /**
+     * Calls {@code task} once per item from {@code threads} threads, released together, and
+     * returns the results in item order. Rethrows the first failure. Keep {@code threads} within the
+     * test pool (16 connections): extra threads only queue for a connection, and can time out there.
+     */
+    public static <T, R> List<R> inParallel(int threads, List<T> items, Function<T, R> task) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<R>> futures = new ArrayList<>();
+            for (T item : items) {
+                Callable<R> call = () -> {
+                    start.await();
+                    return task.apply(item);
+                };
+                futures.add(pool.submit(call));
+            }
+            start.countDown();
+            List<R> results = new ArrayList<>();
+            for (Future<R> future : futures) results.add(future.get());
+            return results;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static String unique() {
+        return UUID.randomUUID().toString().substring(0, 13);
+    }
+}
@@ -0,0 +1,51 @@
+package com.codenestai.ads.config;
+
+import com.codenestai.ads.PostgresTest;
+import com.codenestai.ads.TestData;
+import com.codenestai.ads.model.User;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@PostgresTest
+@AutoConfigureMockMvc
+class QueryCountFilterTest {
+
+    @Autowired MockMvc mockMvc;
+    @Autowired MeterRegistry meterRegistry;
+    @Autowired CacheManager cacheManager;
+    @Autowired TestData data;
+
+    @Test
+    void recordsTheStatementsOfEachRequestUnderItsRoute() throws Exception {
+        User instructor = data.user(User.Role.INSTRUCTOR);
+        data.course(instructor);
+        data.course(instructor);
+        cacheManager.getCache(CacheConfig.CATALOG).clear();
+        double countBefore = catalogQueries().map(DistributionSummary::count).orElse(0L);
+        double totalBefore = catalogQueries().map(DistributionSummary::totalAmount).orElse(0.0);
+
+        mockMvc.perform(get("/api/courses").param("size", "1")).andExpect(status().isOk());   // page select and count
+        mockMvc.perform(get("/api/courses").param("size", "1")).andExpect(status().isOk());   // catalog cache hit
+
+        DistributionSummary queries = catalogQueries().orElseThrow();
+        assertThat(queries.count() - countBefore).isEqualTo(2);
+        assertThat(queries.totalAmount() - totalBefore).isEqualTo(2);
+    }
+
+    private Optional<DistributionSummary> catalogQueries() {
+        return Optional.ofNullable(meterRegistry.find("http.server.requests.queries")
+                .tags("method", "GET", "uri", "/api/courses")
+                .summary());
+    }
+}
@@ -0,0 +1,116 @@
+package com.codenestai.ads.config;
+
+import com.codenestai.ads.PostgresTest;
+import com.codenestai.ads.TestData;
+import com.codenestai.ads.model.Course;
+import com.codenestai.ads.model.Enrollment;
+import com.codenestai.ads.model.ForumReply;
+import com.codenestai.ads.model.ForumThread;
+import com.codenestai.ads.model.User;
+import com.codenestai.ads.repository.UserRepository;
+import com.codenestai.ads.security.PrincipalCache;
+import com.codenestai.ads.service.EnrollmentService;
+import com.codenestai.ads.service.ForumService;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Read-only work goes to the replica, everything else to the primary. {@code TEST_REPLICA_JDBC_URL}
+ * names a second scratch database (same credentials) that gets the schema but never any rows: a
+ * replica that lags behind every write, so a guard lookup that strays onto it fails the write.
+ *
+ * <pre>TEST_JDBC_URL=jdbc:postgresql://localhost:5432/ads_test
+ * TEST_REPLICA_JDBC_URL=jdbc:postgresql://localhost:5432/ads_test_replica mvn test</pre>
+ */
+@PostgresTest
+@EnabledIfEnvironmentVariable(named = "TEST_REPLICA_JDBC_URL", matches = ".+")
+@TestPropertySource(properties = "read-replica.url=${TEST_REPLICA_JDBC_URL}")
+class ReadReplicaRoutingTest {
+
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired PlatformTransactionManager transactionManager;
+    @Autowired UserRepository userRepository;
+    @Autowired PrincipalCache principalCache;
+    @Autowired ForumService forumService;
+    @Autowired EnrollmentService enrollmentService;
+    @Autowired TestData data;
+
+    @BeforeAll
+    static void migrateReplica() {
+        Flyway.configure()
+                .dataSource(System.getenv("TEST_REPLICA_JDBC_URL"),
+                        Objects.requireNonNullElse(System.getenv("TEST_PSQL_USER"), "postgres"),
+                        Objects.requireNonNullElse(System.getenv("TEST_PSQL_PASSWORD"), "postgres"))
+                .load()
+                .migrate();
+    }
+
+    @Test
+    void readOnlyTransactionsRunOnTheReplica() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        String primary = currentDatabase(new TransactionTemplate(transactionManager));
+        String replica = currentDatabase(readOnly);
+
+        assertThat(primary).isEqualTo(databaseName("TEST_JDBC_URL"));
+        assertThat(replica).isEqualTo(databaseName("TEST_REPLICA_JDBC_URL"));
+        assertThat(jdbcTemplate.queryForObject("select current_database()", String.class)).isEqualTo(primary);
+    }
+
+    @Test
+    void finderCallsOutsideATransactionRunOnTheReplica() {
+        User user = data.user(User.Role.STUDENT);
+
+        assertThat(userRepository.findById(user.getId())).isEmpty();
+        assertThat(userRepository.findByEmail(user.getEmail())).isPresent();   // pinned to the primary
+    }
+
+    @Test
+    void principalsLoadFromThePrimary() {
+        User user = data.user(User.Role.STUDENT);
+        principalCache.load(user.getId());
+
+        user.setFirstName("Renamed");
+        userRepository.save(user);
+
+        assertThat(principalCache.load(user.getId()))
+                .extracting(User::getFirstName).isEqualTo("Renamed");
+    }
+
+    @Test
+    void writeGuardsReadThePrimary() {
+        User author = data.user(User.Role.STUDENT);
+        ForumThread thread = data.thread(data.category(), author);
+        Course course = data.course(data.user(User.Role.INSTRUCTOR));
+        assertThat(forumService.getThread(thread.getId())).isEmpty();
+
+        ForumReply reply = forumService.addReply(thread.getId(),
+                ForumReply.builder().author(author).content("Seen by the primary").build());
+        Enrollment enrollment = enrollmentService.enroll(author, course.getId(), null);
+
+        assertThat(reply.getId()).isNotNull();
+        assertThat(enrollment.getCourse().getId()).isEqualTo(course.getId());
+    }
+
+    private String currentDatabase(TransactionTemplate transaction) {
+        return transaction.execute(status -> jdbcTemplate.queryForObject("select current_database()", String.class));
+    }
+
+    private static String databaseName(String urlVariable) {
+        String url = System.getenv(urlVariable);
+        String path = url.substring(url.lastIndexOf('/') + 1);
+        return path.contains("?") ? path.substring(0, path.indexOf('?')) : path;
+    }
+}
@@ -0,0 +1,143 @@
+package com.codenestai.ads.controller;
+
+import com.codenestai.ads.PostgresTest;
+import com.codenestai.ads.TestData;
+import com.codenestai.ads.config.CacheConfig;
+import com.codenestai.ads.model.Course;
+import com.codenestai.ads.model.User;
+import com.codenestai.ads.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/** The catalog is served from DTO projections: a fixed number of statements and no lesson data per page */
+@PostgresTest
+@AutoConfigureMockMvc
+class CourseControllerTest {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired MockMvc mockMvc;
+    @Autowired TestData data;
+    @Autowired CacheManager cacheManager;
+    @Autowired UserRepository userRepository;
+    @Autowired EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        User instructor = data.user(User.Role.INSTRUCTOR);
+        for (int i = 0; i < PAGE_SIZE + 1; i++) {
+            Course course = data.course(instructor);
+            data.lesson(course, 1);
+            data.lesson(course, 2);
+        }
+        cacheManager.getCache(CacheConfig.CATALOG).clear();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void offsetPageIsOneSelectAndOneCount() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/courses").param("size", String.valueOf(PAGE_SIZE)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(PAGE_SIZE))
+                .andExpect(jsonPath("$.content[0].instructorName").isNotEmpty())
+                .andExpect(jsonPath("$.content[0].totalLessons").isNumber())
+                .andExpect(jsonPath("$.content[0].lessons").doesNotExist())
+                .andExpect(jsonPath("$.content[0].description").doesNotExist())
+                .andReturn();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertPayloadPerCourseUnder(result, 600);
+    }
+
+    @Test
+    void cursorPageIsOneSelect() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/courses").param("after", "").param("size", String.valueOf(PAGE_SIZE)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(PAGE_SIZE))
+                .andReturn();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertPayloadPerCourseUnder(result, 600);
+    }
+
+    @Test
+    void cachedPageRunsNoStatements() throws Exception {
+        mockMvc.perform(get("/api/courses").param("size", String.valueOf(PAGE_SIZE))).andExpect(status().isOk());
+        statistics.clear();
+
+        mockMvc.perform(get("/api/courses").param("size", String.valueOf(PAGE_SIZE))).andExpect(status().isOk());
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    private static void assertPayloadPerCourseUnder(MvcResult result, int bytes) {
+        int payload = result.getResponse().getContentAsByteArray().length;
+        assertThat(payload / PAGE_SIZE).as("bytes per course card").isLessThan(bytes);
+    }
+
+    @Test
+    void unchangedLessonsAnswer304FromTheVersionQueryAlone() throws Exception {
+        Course course = data.course(data.user(User.Role.INSTRUCTOR));
+        data.lesson(course, 1);
+        String etag = lessonsETag(course);
+        statistics.clear();
+
+        mockMvc.perform(get("/api/courses/{id}/lessons", course.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        data.lesson(course, 2);
+        assertThat(lessonsETag(course)).isNotEqualTo(etag);
+    }
+
+    @Test
+    void unchangedCourseAnswers304FromTheVersionQueryAlone() throws Exception {
+        User instructor = data.user(User.Role.INSTRUCTOR);
+        Course course = data.course(instructor);
+        String etag = courseETag(course);
+        statistics.clear();
+
+        mockMvc.perform(get("/api/courses/{slug}", course.getSlug()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        data.lesson(course, 1);
+        String afterLesson = courseETag(course);
+        assertThat(afterLesson).isNotEqualTo(etag);
+
+        instructor.setFirstName("Renamed");
+        userRepository.save(instructor);
+        assertThat(courseETag(course)).isNotEqualTo(afterLesson);
+    }
+
+    private String courseETag(Course course) throws Exception {
+        return mockMvc.perform(get("/api/courses/{slug}", course.getSlug()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    private String lessonsETag(Course course) throws Exception {
+        return mockMvc.perform(get("/api/courses/{id}/lessons", course.getId()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+}
@@ -0,0 +1,108 @@
+package com.codenestai.ads.controller;
+
+import com.codenestai.ads.PostgresTest;
+import com.codenestai.ads.TestData;
+import com.codenestai.ads.model.Course;
+import com.codenestai.ads.model.Enrollment;
+import com.codenestai.ads.model.Lesson;
+import com.codenestai.ads.model.User;
+import com.codenestai.ads.security.JwtUtil;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Progress reads and lesson completion are a fixed number of statements however many
+ * enrollments the user has: the counts below are the whole request, principal already cached.
+ */
+@PostgresTest
+@AutoConfigureMockMvc
+class EnrollmentControllerTest {
+
+    @Autowired MockMvc mockMvc;
+    @Autowired TestData data;
+    @Autowired JwtUtil jwtUtil;
+    @Autowired EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private String token;
+    private Enrollment enrollment;
+    private List<Lesson> lessons;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        User instructor = data.user(User.Role.INSTRUCTOR);
+        User student = data.user(User.Role.STUDENT);
+        // A power user: the lookups must not depend on how many enrollments there are
+        for (int i = 0; i < 30; i++) data.enrollment(student, data.course(instructor));
+
+        Course course = data.course(instructor);
+        lessons = IntStream.rangeClosed(1, 4).mapToObj(i -> data.lesson(course, i)).toList();
+        enrollment = data.enrollment(student, course);
+        token = jwtUtil.generateAccessToken(student.getId(), student.getEmail(), student.getRole().name());
+
+        mockMvc.perform(authorized(get("/api/enrollments/{id}/progress", enrollment.getId())))
+                .andExpect(status().isOk());   // warms the principal and verified-token caches
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void progressIsTwoStatements() throws Exception {
+        mockMvc.perform(authorized(post("/api/enrollments/{id}/lessons/{lessonId}/complete",
+                enrollment.getId(), lessons.get(0).getId()))).andExpect(status().isOk());
+        statistics.clear();
+
+        mockMvc.perform(authorized(get("/api/enrollments/{id}/progress", enrollment.getId())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.completionPercent").value(25))
+                .andExpect(jsonPath("$.completedLessons.length()").value(1));
+
+        // The enrollment with its course, then the completed lesson ids
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void completingALessonIsFiveStatements() throws Exception {
+        mockMvc.perform(authorized(post("/api/enrollments/{id}/lessons/{lessonId}/complete",
+                        enrollment.getId(), lessons.get(1).getId())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.completionPercent").value(25));
+
+        // Enrollment lookup, lesson membership, progress insert, counter update, counter read
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(5);
+    }
+
+    @Test
+    void completingALessonAgainSkipsTheCounter() throws Exception {
+        mockMvc.perform(authorized(post("/api/enrollments/{id}/lessons/{lessonId}/complete",
+                enrollment.getId(), lessons.get(2).getId()))).andExpect(status().isOk());
+        statistics.clear();
+
+        mockMvc.perform(authorized(post("/api/enrollments/{id}/lessons/{lessonId}/complete",
+                        enrollment.getId(), lessons.get(2).getId())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.completionPercent").value(25));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+    }
+
+    private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request) {
+        return request.header("Authorization", "Bearer " + token);
+    }
+}
@@ -0,0 +1,62 @@
+package com.codenestai.ads.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class PageCursorTest {
+
+    private final Instant at = Instant.parse("2026-03-14T15:09:26.535897Z");
+    private final UUID id = UUID.randomUUID();
+
+    @Test
+    void roundTrips() {
+        PageCursor pinned = new PageCursor(true, at, id);
+        PageCursor plain = PageCursor.of(at, id);
+
+        assertThat(PageCursor.decode(pinned.encode(), true)).isEqualTo(pinned);
+        assertThat(PageCursor.decode(plain.encode(), false)).isEqualTo(plain);
+    }
+
+    @Test
+    void encodingIsUrlSafe() {
+        assertThat(new PageCursor(true, at, id).encode()).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void blankStartsFromTheBeginning() {
+        assertThat(PageCursor.decode(null, false)).isEqualTo(PageCursor.start(false));
+        assertThat(PageCursor.decode("  ", true)).isEqualTo(PageCursor.start(true));
+    }
+
+    @Test
+    void startSortsBeforeEveryRow() {
+        PageCursor ascending = PageCursor.start(false);
+        PageCursor descending = PageCursor.start(true);
+
+        assertThat(ascending.at()).isBefore(at);
+        assertThat(ascending.id()).isEqualTo(new UUID(0L, 0L));
+        assertThat(descending.pinned()).isTrue();
+        assertThat(descending.at()).isAfter(at);
+        assertThat(descending.id()).isEqualTo(new UUID(-1L, -1L));
+    }
+
+    @Test
+    void rejectsTamperedCursors() {
+        assertThatIllegalArgumentException().isThrownBy(() -> PageCursor.decode("not base64!", false))
+                .withMessage("Invalid cursor");
+        assertThatIllegalArgumentException().isThrownBy(() -> PageCursor.decode(encode("0|yesterday|" + id), false));
+        assertThatIllegalArgumentException().isThrownBy(() -> PageCursor.decode(encode("0|" + at), false));
+        assertThatIllegalArgumentException().isThrownBy(() -> PageCursor.decode(encode("0|" + at + "|42"), false));
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,48 @@
+package com.codenestai.ads.dto.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class SearchCursorTest {
+
+    @Test
+    void roundTrips() {
+        SearchCursor cursor = new SearchCursor(0.0607927f, UUID.randomUUID());
+
+        assertThat(SearchCursor.decode(cursor.encode())).isEqualTo(cursor);
+        assertThat(cursor.encode()).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void roundTripsExtremeRanks() {
+        for (float rank : new float[] {0f, Float.MIN_VALUE, 1e-30f, Float.MAX_VALUE}) {
+            SearchCursor cursor = new SearchCursor(rank, UUID.randomUUID());
+            assertThat(SearchCursor.decode(cursor.encode()).rank()).isEqualTo(rank);
+        }
+    }
+
+    @Test
+    void blankStartsAboveEveryRank() {
+        assertThat(SearchCursor.decode(null)).isEqualTo(SearchCursor.start());
+        assertThat(SearchCursor.decode("")).isEqualTo(SearchCursor.start());
+        assertThat(SearchCursor.start().rank()).isEqualTo(Float.MAX_VALUE);
+    }
+
+    @Test
+    void rejectsTamperedCursors() {
+        assertThatIllegalArgumentException().isThrownBy(() -> SearchCursor.decode("%%%"))
+                .withMessage("Invalid cursor");
+        assertThatIllegalArgumentException().isThrownBy(() -> SearchCursor.decode(encode("high|" + UUID.randomUUID())));
+        assertThatIllegalArgumentException().isThrownBy(() -> SearchCursor.decode(encode("0.5")));
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,52 @@
+package com.codenestai.ads.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UuidV7GeneratorTest {
+
+    @Test
+    void isVersion7WithTheRfcVariant() {
+        UUID id = UuidV7Generator.next();
+
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);     // bits 10
+        assertThat(id.toString()).matches("[0-9a-f]{8}-[0-9a-f]{4}-7[0-9a-f]{3}-[89ab][0-9a-f]{3}-[0-9a-f]{12}");
+    }
+
+    @Test
+    void topFortyEightBitsAreTheUnixMillis() {
+        long before = System.currentTimeMillis();
+        UUID id = UuidV7Generator.next();
+        long after = System.currentTimeMillis();
+
+        assertThat(id.getMostSignificantBits() >>> 16).isBetween(before, after);
+    }
+
+    @Test
+    void sortsByCreationTimeAcrossMilliseconds() throws InterruptedException {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(UuidV7Generator.next());
+            Thread.sleep(2);
+        }
+
+        // Postgres orders uuid bytewise, i.e. as unsigned hex strings
+        List<String> hex = ids.stream().map(UUID::toString).toList();
+        assertThat(hex).isSorted();
+    }
+
+    @Test
+    void randomBitsDoNotCollide() {
+        int count = 100_000;
+        assertThat(new HashSet<>(IntStream.range(0, count).mapToObj(i -> UuidV7Generator.next()).toList()))
+                .hasSize(count);
+    }
+}
@@ -0,0 +1,278 @@
+package com.codenestai.ads.repository;
+
+import com.codenestai.ads.PostgresTest;
+import com.codenestai.ads.TestData;
+import com.codenestai.ads.model.*;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Every repository finder is served by an index. Each finder is called once to capture the SQL
+ * Hibernate actually sends, and that SQL is planned with {@code EXPLAIN (GENERIC_PLAN)} and
+ * sequential scans disabled: the plan must contain the expected index and no {@code Seq Scan}.
+ * Left out on purpose: the category list (a handful of rows, read whole), the reconcile jobs and
+ * their locks (whole-table by design), and the insert-if-absent statements (no read path).
+ * {@code GENERIC_PLAN} needs Postgres 16; older servers skip the test.
+ */
+@PostgresTest
+@Import(QueryPlanTest.RecordStatements.class)
+class QueryPlanTest {
+
+    private static final ThreadLocal<List<String>> RECORDED = new ThreadLocal<>();
+    private static final Pageable NEWEST = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+    private static final Pageable OLDEST = PageRequest.of(0, 20, Sort.by("createdAt"));
+
+    @Autowired CourseRepository courseRepository;
+    @Autowired EnrollmentRepository enrollmentRepository;
+    @Autowired ForumCategoryRepository categoryRepository;
+    @Autowired ForumReplyRepository replyRepository;
+    @Autowired ForumThreadRepository threadRepository;
+    @Autowired LessonProgressRepository progressRepository;
+    @Autowired LessonRepository lessonRepository;
+    @Autowired PostCommentRepository commentRepository;
+    @Autowired PostRepository postRepository;
+    @Autowired UserRepository userRepository;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired TransactionTemplate transactionTemplate;
+    @Autowired TestData data;
+
+    @Value("${spring.datasource.url}") String url;
+    @Value("${spring.datasource.username}") String username;
+    @Value("${spring.datasource.password}") String password;
+
+    private final UUID id = UUID.randomUUID();
+    private final Instant now = Instant.now();
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        assumeTrue(jdbcTemplate.queryForObject("show server_version_num", Integer.class) >= 160000,
+                "EXPLAIN (GENERIC_PLAN) needs Postgres 16");
+        user = data.user(User.Role.STUDENT);
+    }
+
+    @Test
+    void courseFinders() {
+        User instructor = data.user(User.Role.INSTRUCTOR);
+        Course.Status published = Course.Status.PUBLISHED;
+        Course.Level beginner = Course.Level.BEGINNER;
+
+        assertIndexed(() -> courseRepository.findBySlug("missing"), "courses_slug_key");
+        assertIndexed(() -> courseRepository.findWithInstructorBySlug("missing"), "courses_slug_key");
+        assertIndexed(() -> courseRepository.findVersionBySlug("missing"), "courses_slug_key");
+        assertIndexed(() -> courseRepository.findByInstructor(instructor), "idx_courses_instructor");
+        assertIndexed(() -> courseRepository.existsByInstructorId(instructor.getId()), "idx_courses_instructor");
+        assertIndexed(() -> courseRepository.findSummariesByStatus(published, OLDEST), "idx_courses_status_created");
+        assertIndexed(() -> courseRepository.findSummariesByStatusAndLevel(published, beginner, OLDEST),
+                "idx_courses_status_level_created");
+        assertIndexed(() -> courseRepository.findSummariesByStatusAfter(published, now, id, PageRequest.ofSize(20)),
+                "idx_courses_status_created");
+        assertIndexed(() -> courseRepository.findSummariesByStatusAndLevelAfter(published, beginner, now, id,
+                PageRequest.ofSize(20)), "idx_courses_status_level_created");
+        assertIndexed(() -> courseRepository.adjustLessonTotals(id, 1, 5), "courses_pkey");
+    }
+
+    @Test
+    void lessonAndEnrollmentFinders() {
+        Course course = data.course(data.user(User.Role.INSTRUCTOR));
+        Lesson lesson = data.lesson(course, 1);
+        Enrollment enrollment = data.enrollment(user, course);
+
+        assertIndexed(() -> lessonRepository.findByCourseOrderByOrderIndexAsc(course), "idx_lessons_course_order");
+        assertIndexed(() -> lessonRepository.existsByIdAndCourseId(id, course.getId()),
+                "lessons_pkey|idx_lessons_course_order");
+        assertIndexed(() -> lessonRepository.findVersionByCourseId(course.getId()), "idx_lessons_course_order");
+
+        String userAndCourse = "enrollments_user_id_course_id_key|idx_enrollments_course";
+        assertIndexed(() -> enrollmentRepository.findByUserAndCourse(user, course), userAndCourse);
+        assertIndexed(() -> enrollmentRepository.findByUser(user), "enrollments_user_id_course_id_key");
+        assertIndexed(() -> enrollmentRepository.existsByUserAndCourse(user, course), userAndCourse);
+        assertIndexed(() -> enrollmentRepository.countByCourse(course), "idx_enrollments_course");
+        assertIndexed(() -> enrollmentRepository.findByIdAndUserId(id, user.getId()),
+                "enrollments_pkey|enrollments_user_id_course_id_key");
+        assertIndexed(() -> enrollmentRepository.incrementCompletedLessons(id, 4, Enrollment.Status.COMPLETED, now),
+                "enrollments_pkey");
+        assertIndexed(() -> enrollmentRepository.findCompletedLessons(id), "enrollments_pkey");
+        assertIndexed(() -> enrollmentRepository.decrementCompletedLessonsForLesson(id), "idx_lesson_progress_lesson");
+        assertIndexed(() -> enrollmentRepository.syncCompletionStatus(id, now), "idx_enrollments_course");
+
+        String byEnrollment = "lesson_progress_enrollment_id_lesson_id_key";
+        assertIndexed(() -> progressRepository.findByEnrollment(enrollment), byEnrollment);
+        assertIndexed(() -> progressRepository.findByEnrollmentAndLesson(enrollment, lesson), byEnrollment);
+        assertIndexed(() -> progressRepository.countByEnrollment(enrollment), byEnrollment);
+        assertIndexed(() -> progressRepository.findCompletedLessonIds(id), byEnrollment);
+        assertIndexed(() -> progressRepository.deleteByLessonId(id), "idx_lesson_progress_lesson");
+    }
+
+    @Test
+    void communityFinders() {
+        Post post = data.post(user);
+
+        assertIndexed(() -> postRepository.findAll(NEWEST), "idx_posts_created");
+        assertIndexed(() -> postRepository.findByType(Post.PostType.DISCUSSION, NEWEST), "idx_posts_type_created");
+        assertIndexed(() -> postRepository.findByAuthor(user, NEWEST), "idx_posts_author");
+        assertIndexed(() -> postRepository.incrementLikeCount(id), "posts_pkey");
+        assertIndexed(() -> postRepository.findLikeCount(id), "posts_pkey");
+        assertIndexed(() -> postRepository.findVersion(id), "posts_pkey", "idx_post_comments_post_created");
+        assertIndexed(() -> postRepository.findFeedBefore(now, id, PageRequest.ofSize(20)), "idx_posts_created");
+        assertIndexed(() -> postRepository.findFeedByTypeBefore(Post.PostType.DISCUSSION, now, id,
+                PageRequest.ofSize(20)), "idx_posts_type_created|idx_posts_created");
+        assertIndexed(() -> commentRepository.findByPostOrderByCreatedAtAsc(post), "idx_post_comments_post_created");
+    }
+
+    @Test
+    void forumFinders() {
+        ForumThread thread = data.thread(data.category(), user);
+
+        assertIndexed(() -> categoryRepository.findBySlug("missing"), "forum_categories_slug_key");
+        assertIndexed(() -> categoryRepository.recordActivity(id, 1, 0, id, now), "forum_categories_pkey");
+        assertIndexed(() -> categoryRepository.removeActivity(id, 1, 0), "forum_categories_pkey");
+        assertIndexed(() -> categoryRepository.resetLastActivity(id),
+                "forum_categories_pkey", "idx_forum_threads_category_feed");
+
+        assertIndexed(() -> threadRepository.findByAuthor(user, NEWEST), "idx_forum_threads_author");
+        assertIndexed(() -> threadRepository.recordReply(id, now), "forum_threads_pkey");
+        assertIndexed(() -> threadRepository.decrementReplyCount(id), "forum_threads_pkey");
+
+        assertIndexed(() -> replyRepository.findByThread(thread, OLDEST), "idx_forum_replies_thread_created");
+        assertIndexed(() -> replyRepository.countByThreadId(id), "idx_forum_replies_thread_created");
+        assertIndexed(() -> replyRepository.incrementLikeCount(id), "forum_replies_pkey");
+        assertIndexed(() -> replyRepository.findLikeCount(id), "forum_replies_pkey");
+        assertIndexed(() -> replyRepository.findByThreadAfter(thread, now, id, PageRequest.ofSize(20)),
+                "idx_forum_replies_thread_created");
+    }
+
+    @Test
+    void categoryFeedIsReadInIndexOrder() {
+        ForumCategory category = data.category();
+        List<String> offset = record(() -> threadRepository.findCategoryFeed(category, PageRequest.of(1, 20)));
+        List<String> keyset = record(() -> threadRepository.findByCategoryAfter(category, false, now, id,
+                PageRequest.ofSize(20)));
+
+        // Sorting priced out: any Sort left would mean the index cannot deliver pinned-then-latest order
+        for (String sql : List.of(offset.get(0), keyset.get(0))) {
+            assertThat(explain(sql, "enable_sort = off")).as("plan of %s", sql)
+                    .contains("Index Scan using idx_forum_threads_category_feed")
+                    .doesNotContain("Sort");
+        }
+        assertThat(explain(keyset.get(0))).contains("Index Cond: ((category_id = $1) AND (ROW(");
+    }
+
+    @Test
+    void userFinders() {
+        assertIndexed(() -> userRepository.findByEmail("missing@test.local"), "users_email_key");
+        assertIndexed(() -> userRepository.findByGoogleId("missing"), "idx_users_google");
+        assertIndexed(() -> userRepository.existsByEmail("missing@test.local"), "users_email_key");
+        assertIndexed(() -> userRepository.updatePasswordHash(id, "hash"), "users_pkey");
+    }
+
+    // ─── Helpers ───────────────────────────────────────────────────────────────
+
+    /**
+     * Plans every statement the finder sends. Each index is a pattern: where two indexes both
+     * serve a lookup, which one wins depends on the scratch database's statistics, so
+     * {@code a|b} accepts either.
+     */
+    private void assertIndexed(Runnable finder, String... indexes) {
+        List<String> statements = record(finder);
+        StringBuilder plans = new StringBuilder();
+        for (String sql : statements) {
+            String plan = explain(sql);
+            assertThat(plan).as("plan of %s", sql).doesNotContain("Seq Scan");
+            plans.append(plan);
+        }
+        for (String index : indexes) {
+            assertThat(plans.toString()).as("plans of %s", statements).containsPattern(index);
+        }
+    }
+
+    /** Runs the finder in a rolled-back transaction and returns the statements it sent */
+    private List<String> record(Runnable finder) {
+        List<String> statements = new ArrayList<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            RECORDED.set(statements);
+            try {
+                finder.run();
+            } finally {
+                RECORDED.remove();
+                status.setRollbackOnly();
+            }
+        });
+        assertThat(statements).as("statements sent").isNotEmpty();
+        return statements;
+    }
+
+    /**
+     * Plans on a connection of its own in the simple query protocol: the extended protocol would
+     * try to bind the {@code $n} placeholders that {@code GENERIC_PLAN} leaves unbound.
+     */
+    private String explain(String sql, String... settings) {
+        String simple = url + (url.contains("?") ? "&" : "?") + "preferQueryMode=simple";
+        try (Connection connection = DriverManager.getConnection(simple, username, password);
+             Statement statement = connection.createStatement()) {
+            statement.execute("set enable_seqscan = off");
+            for (String setting : settings) statement.execute("set " + setting);
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet rows = statement.executeQuery("explain (generic_plan) " + numberParameters(sql))) {
+                while (rows.next()) plan.append(rows.getString(1)).append('\n');
+            }
+            return plan.toString();
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not plan " + sql, e);
+        }
+    }
+
+    /** JDBC's {@code ?} placeholders to the {@code $n} form EXPLAIN understands */
+    private static String numberParameters(String sql) {
+        Matcher placeholder = Pattern.compile("\\?").matcher(sql);
+        StringBuilder numbered = new StringBuilder();
+        int n = 0;
+        while (placeholder.find()) placeholder.appendReplacement(numbered, "\\$" + ++n);
+        return placeholder.appendTail(numbered).toString();
+    }
+
+    /** Copies each statement this thread sends to {@link #RECORDED}, ahead of the app's own inspector */
+    @TestConfiguration
+    static class RecordStatements {
+
+        @Bean
+        HibernatePropertiesCustomizer recordStatements() {
+            return properties -> {
+                StatementInspector app = (StatementInspector) properties.get(AvailableSettings.STATEMENT_INSPECTOR);
+                properties.put(AvailableSettings.STATEMENT_INSPECTOR, (StatementInspector) sql -> {
+                    List<String> recorded = RECORDED.get();
+                    if (recorded != null) recorded.add(sql);
+                    return app != null ? app.inspect(sql) : sql;
+                });
+            };
+        }
+    }
+}
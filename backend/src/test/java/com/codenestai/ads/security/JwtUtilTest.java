@@ -0,0 +1,111 @@
+package com.codenestai.ads.security;
+
+import com.codenestai.ads.config.CacheConfig;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtUtilTest {
+
+    private static final String SECRET = "test-only-not-a-real-secret-0123456789abcdef";
+    private static final long HOUR = 3_600_000;
+
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(CacheConfig.VERIFIED_TOKENS);
+    private final JwtUtil jwtUtil = new JwtUtil(SECRET, HOUR, 24 * HOUR, true, cacheManager);
+    private final UUID userId = UUID.randomUUID();
+
+    @Test
+    void decodesAnAccessToken() {
+        JwtVerification verification = jwtUtil.verify(jwtUtil.generateAccessToken(userId, "a@b.com", "ADMIN"));
+
+        assertThat(verification.isValid()).isTrue();
+        assertThat(verification.failure()).isNull();
+        JwtClaims claims = verification.claims();
+        assertThat(claims.userId()).isEqualTo(userId);
+        assertThat(claims.type()).isEqualTo("access");
+        assertThat(claims.email()).isEqualTo("a@b.com");
+        assertThat(claims.role()).isEqualTo("ADMIN");
+        assertThat(claims.expiresAt()).isBetween(Instant.now().plusMillis(HOUR - 60_000), Instant.now().plusMillis(HOUR));
+    }
+
+    @Test
+    void decodesARefreshToken() {
+        JwtClaims claims = jwtUtil.verify(jwtUtil.generateRefreshToken(userId)).claims();
+
+        assertThat(claims.userId()).isEqualTo(userId);
+        assertThat(claims.type()).isEqualTo("refresh");
+        assertThat(claims.email()).isNull();
+    }
+
+    @Test
+    void rejectsAnExpiredToken() {
+        JwtUtil expired = new JwtUtil(SECRET, -60_000, -60_000, true, cacheManager);
+
+        assertFailure(expired.generateAccessToken(userId, "a@b.com", "STUDENT"), JwtVerification.Failure.EXPIRED);
+    }
+
+    @Test
+    void rejectsATokenSignedWithAnotherKey() {
+        JwtUtil other = new JwtUtil(SECRET.replace('0', 'x'), HOUR, HOUR, false, null);
+
+        assertFailure(other.generateAccessToken(userId, "a@b.com", "ADMIN"), JwtVerification.Failure.BAD_SIGNATURE);
+    }
+
+    @Test
+    void rejectsATamperedPayload() {
+        String[] parts = jwtUtil.generateAccessToken(userId, "a@b.com", "STUDENT").split("\\.");
+        String forged = jwtUtil.generateAccessToken(userId, "a@b.com", "ADMIN").split("\\.")[1];
+
+        assertFailure(parts[0] + "." + forged + "." + parts[2], JwtVerification.Failure.BAD_SIGNATURE);
+    }
+
+    @Test
+    void rejectsAnUnsignedToken() {
+        String unsigned = Jwts.builder().subject(userId.toString())
+                .expiration(new Date(System.currentTimeMillis() + HOUR)).compact();
+
+        assertFailure(unsigned, JwtVerification.Failure.UNSUPPORTED);
+    }
+
+    @Test
+    void rejectsGarbageAndMissingClaims() {
+        String noSubject = Jwts.builder()
+                .expiration(new Date(System.currentTimeMillis() + HOUR))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        assertFailure("not-a-jwt", JwtVerification.Failure.MALFORMED);
+        assertFailure("", JwtVerification.Failure.MALFORMED);
+        assertFailure(noSubject, JwtVerification.Failure.MALFORMED);
+    }
+
+    @Test
+    void cachesOnlyValidTokens() {
+        ConcurrentMapCache cache = (ConcurrentMapCache) cacheManager.getCache(CacheConfig.VERIFIED_TOKENS);
+        jwtUtil.verify("not-a-jwt");
+        assertThat(cache.getNativeCache()).isEmpty();
+
+        String token = jwtUtil.generateAccessToken(userId, "a@b.com", "STUDENT");
+        JwtVerification first = jwtUtil.verify(token);
+        JwtVerification second = jwtUtil.verify(token);
+
+        assertThat(cache.getNativeCache()).hasSize(1);
+        assertThat(second.claims()).isEqualTo(first.claims());
+    }
+
+    private void assertFailure(String token, JwtVerification.Failure failure) {
+        JwtVerification verification = jwtUtil.verify(token);
+
+        assertThat(verification.isValid()).isFalse();
+        assertThat(verification.failure()).isEqualTo(failure);
+    }
+}
@@ -0,0 +1,44 @@
+package com.codenestai.ads.service;
+
+import com.codenestai.ads.PostgresTest;
+import com.codenestai.ads.TestData;
+import com.codenestai.ads.model.Post;
+import com.codenestai.ads.model.User;
+import com.codenestai.ads.repository.PostRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@PostgresTest
+class CommunityServiceTest {
+
+    @Autowired CommunityService communityService;
+    @Autowired PostRepository postRepository;
+    @Autowired TestData data;
+
+    @Test
+    void thousandParallelLikesAreCountedExactly() throws Exception {
+        Post post = data.post(data.user(User.Role.STUDENT));
+        List<User> likers = data.users(1000, User.Role.STUDENT);
+
+        TestData.inParallel(16, likers, user -> communityService.likePost(post.getId(), user));
+
+        assertThat(postRepository.findLikeCount(post.getId())).contains(1000);
+    }
+
+    @Test
+    void repeatedLikesFromOneUserCountOnce() throws Exception {
+        Post post = data.post(data.user(User.Role.STUDENT));
+        User liker = data.user(User.Role.STUDENT);
+
+        List<Integer> counts = TestData.inParallel(8, Collections.nCopies(50, liker),
+                user -> communityService.likePost(post.getId(), user));
+
+        assertThat(counts).containsOnly(1);
+        assertThat(postRepository.findLikeCount(post.getId())).contains(1);
+    }
+}
@@ -0,0 +1,134 @@
+package com.codenestai.ads.service;
+
+import com.codenestai.ads.PostgresTest;
+import com.codenestai.ads.TestData;
+import com.codenestai.ads.dto.auth.UpdateProfileRequest;
+import com.codenestai.ads.model.Course;
+import com.codenestai.ads.model.Enrollment;
+import com.codenestai.ads.model.Lesson;
+import com.codenestai.ads.model.User;
+import com.codenestai.ads.repository.CourseRepository;
+import com.codenestai.ads.repository.EnrollmentRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@PostgresTest
+class CourseServiceTest {
+
+    @Autowired CourseService courseService;
+    @Autowired CourseRepository courseRepository;
+    @Autowired EnrollmentService enrollmentService;
+    @Autowired UserService userService;
+    @Autowired EnrollmentRepository enrollmentRepository;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired TestData data;
+
+    @Test
+    void lessonWritesMoveTheTotalsByTheirDelta() {
+        User instructor = data.user(User.Role.INSTRUCTOR);
+        Course course = data.course(instructor);
+        Lesson first = data.lesson(course, 1);
+        data.lesson(course, 2);
+        assertTotals(course, 2, 10);
+
+        courseService.updateLesson(first.getId(), Lesson.builder()
+                .title(first.getTitle())
+                .content(first.getContent())
+                .durationMinutes(30)
+                .orderIndex(1)
+                .isFreePreview(false)
+                .build(), instructor);
+        assertTotals(course, 2, 35);
+
+        courseService.deleteLesson(first.getId(), instructor);
+        assertTotals(course, 1, 5);
+    }
+
+    @Test
+    void reconcileRepairsDriftedTotals() {
+        Course course = data.course(data.user(User.Role.INSTRUCTOR));
+        data.lesson(course, 1);
+        jdbcTemplate.update("update courses set total_lessons = 7, duration_minutes = null where id = ?", course.getId());
+
+        courseService.reconcileLessonTotals();
+
+        assertTotals(course, 1, 5);
+    }
+
+    @Test
+    void courseUpdateShowsOnTheNextCachedRead() {
+        User instructor = data.user(User.Role.INSTRUCTOR);
+        Course course = data.course(instructor);
+        assertThat(courseService.getCourseDetail(course.getSlug())).hasValueSatisfying(
+                detail -> assertThat(detail.getTitle()).isEqualTo("Test course"));
+
+        course.setTitle("Renamed course");
+        courseService.updateCourse(course.getId(), course, instructor);
+
+        assertThat(courseService.getCourseDetail(course.getSlug())).hasValueSatisfying(
+                detail -> assertThat(detail.getTitle()).isEqualTo("Renamed course"));
+    }
+
+    @Test
+    void instructorProfileEditShowsOnTheNextCachedRead() {
+        User instructor = data.user(User.Role.INSTRUCTOR);
+        Course course = data.course(instructor);
+        assertThat(courseService.getCourseDetail(course.getSlug())).hasValueSatisfying(
+                detail -> assertThat(detail.getInstructor().getFirstName()).isEqualTo("Test"));
+
+        UpdateProfileRequest edit = new UpdateProfileRequest();
+        edit.setFirstName("Renamed");
+        userService.updateProfile(instructor.getId(), edit);
+
+        assertThat(courseService.getCourseDetail(course.getSlug())).hasValueSatisfying(
+                detail -> assertThat(detail.getInstructor().getFirstName()).isEqualTo("Renamed"));
+    }
+
+    @Test
+    void lessonCountChangesReDeriveCompletion() {
+        User instructor = data.user(User.Role.INSTRUCTOR);
+        Course course = data.course(instructor);
+        Lesson first = data.lesson(course, 1);
+        Lesson second = data.lesson(course, 2);
+        Lesson third = data.lesson(course, 3);
+        Enrollment enrollment = data.enrollment(data.user(User.Role.STUDENT), course);
+        enrollmentService.markLessonComplete(enrollment.getId(), enrollment.getUser(), first.getId());
+        enrollmentService.markLessonComplete(enrollment.getId(), enrollment.getUser(), second.getId());
+
+        courseService.deleteLesson(third.getId(), instructor);
+        assertThat(reload(enrollment).getStatus()).isEqualTo(Enrollment.Status.COMPLETED);
+        assertThat(reload(enrollment).getCompletedAt()).isNotNull();
+
+        data.lesson(course, 4);
+        assertThat(reload(enrollment).getStatus()).isEqualTo(Enrollment.Status.ACTIVE);
+        assertThat(reload(enrollment).getCompletedAt()).isNull();
+    }
+
+    @Test
+    void deletingACompletedLessonNeverTakesTheCounterBelowZero() {
+        User instructor = data.user(User.Role.INSTRUCTOR);
+        Course course = data.course(instructor);
+        Lesson lesson = data.lesson(course, 1);
+        data.lesson(course, 2);
+        Enrollment enrollment = data.enrollment(data.user(User.Role.STUDENT), course);
+        enrollmentService.markLessonComplete(enrollment.getId(), enrollment.getUser(), lesson.getId());
+        jdbcTemplate.update("update enrollments set completed_lessons = 0 where id = ?", enrollment.getId());
+
+        courseService.deleteLesson(lesson.getId(), instructor);
+
+        assertThat(reload(enrollment).getCompletedLessons()).isZero();
+    }
+
+    private Enrollment reload(Enrollment enrollment) {
+        return enrollmentRepository.findById(enrollment.getId()).orElseThrow();
+    }
+
+    private void assertTotals(Course course, int lessons, int minutes) {
+        Course saved = courseRepository.findById(course.getId()).orElseThrow();
+        assertThat(saved.getTotalLessons()).isEqualTo(lessons);
+        assertThat(saved.getDurationMinutes()).isEqualTo(minutes);
+    }
+}
@@ -0,0 +1,69 @@
+package com.codenestai.ads.service;
+
+import com.codenestai.ads.PostgresTest;
+import com.codenestai.ads.TestData;
+import com.codenestai.ads.model.Course;
+import com.codenestai.ads.model.Enrollment;
+import com.codenestai.ads.model.Lesson;
+import com.codenestai.ads.model.User;
+import com.codenestai.ads.repository.EnrollmentRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@PostgresTest
+class EnrollmentServiceTest {
+
+    @Autowired EnrollmentService enrollmentService;
+    @Autowired EnrollmentRepository enrollmentRepository;
+    @Autowired PlatformTransactionManager transactionManager;
+    @Autowired TestData data;
+
+    @Test
+    void parallelCompletionsOfOneLessonCountOnce() throws Exception {
+        Course course = data.course(data.user(User.Role.INSTRUCTOR));
+        Lesson lesson = data.lesson(course, 1);
+        Enrollment enrollment = data.enrollment(data.user(User.Role.STUDENT), course);
+
+        TestData.inParallel(8, Collections.nCopies(40, enrollment),
+                e -> enrollmentService.markLessonComplete(e.getId(), e.getUser(), lesson.getId()));
+
+        assertThat(enrollmentRepository.findCompletedLessons(enrollment.getId())).contains(1);
+    }
+
+    @Test
+    void cancelledEnrollmentsTakeNoProgress() {
+        Course course = data.course(data.user(User.Role.INSTRUCTOR));
+        Lesson lesson = data.lesson(course, 1);
+        Enrollment enrollment = data.enrollment(data.user(User.Role.STUDENT), course);
+        enrollmentService.cancelEnrollment(enrollment.getId(), enrollment.getUser());
+
+        assertThatThrownBy(() -> enrollmentService.markLessonComplete(enrollment.getId(), enrollment.getUser(), lesson.getId()))
+                .isInstanceOf(IllegalStateException.class);
+
+        Enrollment saved = enrollmentRepository.findById(enrollment.getId()).orElseThrow();
+        assertThat(saved.getStatus()).isEqualTo(Enrollment.Status.CANCELLED);
+        assertThat(saved.getCompletedLessons()).isZero();
+    }
+
+    @Test
+    void aCancelledEnrollmentIsNeverCompletedByTheCounter() {
+        Course course = data.course(data.user(User.Role.INSTRUCTOR));
+        Enrollment enrollment = data.enrollment(data.user(User.Role.STUDENT), course);
+        enrollmentService.cancelEnrollment(enrollment.getId(), enrollment.getUser());
+
+        new TransactionTemplate(transactionManager).execute(status -> enrollmentRepository.incrementCompletedLessons(
+                enrollment.getId(), 1, Enrollment.Status.COMPLETED, Instant.now()));
+
+        Enrollment saved = enrollmentRepository.findById(enrollment.getId()).orElseThrow();
+        assertThat(saved.getStatus()).isEqualTo(Enrollment.Status.CANCELLED);
+        assertThat(saved.getCompletedAt()).isNull();
+    }
+}
@@ -0,0 +1,70 @@
+package com.codenestai.ads.service;
+
+import com.codenestai.ads.Latency;
+import com.codenestai.ads.PostgresTest;
+import com.codenestai.ads.TestData;
+import com.codenestai.ads.dto.CursorPage;
+import com.codenestai.ads.dto.PageCursor;
+import com.codenestai.ads.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.UUID;
+
+/**
+ * Community feed latency, newest first: offset paging against the {@code ?after=} seek, on page 1
+ * and page 500 of {@value #POSTS} posts. Seeds the posts once per database, so give it a database
+ * of its own. Not a {@code *Test}, so {@code mvn test} skips it; run it by name:
+ *
+ * <pre>TEST_JDBC_URL=jdbc:postgresql://localhost:5432/ads_bench mvn test -Dtest=FeedPaginationBenchmark</pre>
+ */
+@PostgresTest
+class FeedPaginationBenchmark {
+
+    private static final int POSTS = 200_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int DEEP_PAGE = 499;
+    private static final Sort NEWEST = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+
+    @Autowired CommunityService communityService;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired TestData data;
+
+    @BeforeEach
+    void seed() {
+        int missing = POSTS - jdbcTemplate.queryForObject("select count(*) from posts", Integer.class);
+        if (missing <= 0) return;
+        User author = data.user(User.Role.STUDENT);
+        jdbcTemplate.update("insert into posts (id, author_id, title, content, type, like_count, created_at, updated_at) "
+                + "select gen_random_uuid(), ?, 'Benchmark post ' || g, 'Body of benchmark post ' || g, 'DISCUSSION', 0, "
+                + "now() - g * interval '1 second', now() - g * interval '1 second' from generate_series(1, ?) g",
+                author.getId(), missing);
+        jdbcTemplate.execute("analyze posts");
+    }
+
+    @Test
+    void firstAndFiveHundredthPage() {
+        PageCursor first = PageCursor.start(true);
+        PageCursor deep = jdbcTemplate.queryForObject(
+                "select created_at, id from posts order by created_at desc, id desc offset ? limit 1",
+                (rs, i) -> PageCursor.of(rs.getTimestamp(1).toInstant(), rs.getObject(2, UUID.class)),
+                DEEP_PAGE * PAGE_SIZE - 1);
+        Pageable limit = CursorPage.limit(PAGE_SIZE);
+
+        report("offset page 1", Latency.of(20, 200,
+                () -> communityService.getPosts(PageRequest.of(0, PAGE_SIZE, NEWEST))));
+        report("offset page 500", Latency.of(20, 200,
+                () -> communityService.getPosts(PageRequest.of(DEEP_PAGE, PAGE_SIZE, NEWEST))));
+        report("keyset page 1", Latency.of(20, 200, () -> communityService.getFeed(null, first, limit)));
+        report("keyset page 500", Latency.of(20, 200, () -> communityService.getFeed(null, deep, limit)));
+    }
+
+    private static void report(String name, Latency latency) {
+        System.out.printf("%-16s %s%n", name, latency);
+    }
+}
@@ -0,0 +1,136 @@
+package com.codenestai.ads.service;
+
+import com.codenestai.ads.PostgresTest;
+import com.codenestai.ads.TestData;
+import com.codenestai.ads.dto.CursorPage;
+import com.codenestai.ads.dto.PageCursor;
+import com.codenestai.ads.model.ForumCategory;
+import com.codenestai.ads.model.ForumReply;
+import com.codenestai.ads.model.ForumThread;
+import com.codenestai.ads.model.User;
+import com.codenestai.ads.repository.ForumCategoryRepository;
+import com.codenestai.ads.repository.ForumReplyRepository;
+import com.codenestai.ads.repository.ForumThreadRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@PostgresTest
+class ForumServiceTest {
+
+    @Autowired ForumService forumService;
+    @Autowired ForumThreadRepository threadRepository;
+    @Autowired ForumReplyRepository replyRepository;
+    @Autowired ForumCategoryRepository categoryRepository;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired TestData data;
+
+    @Test
+    void parallelRepliesAreCountedExactly() throws Exception {
+        ForumCategory category = data.category();
+        ForumThread thread = data.thread(category, data.user(User.Role.STUDENT));
+        List<User> repliers = data.users(200, User.Role.STUDENT);
+
+        Instant before = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        TestData.inParallel(16, repliers, user -> forumService.addReply(thread.getId(),
+                ForumReply.builder().author(user).content("Reply from " + user.getEmail()).build()));
+
+        ForumThread saved = threadRepository.findById(thread.getId()).orElseThrow();
+        assertThat(saved.getReplyCount()).isEqualTo(200);
+        assertThat(replyRepository.countByThreadId(thread.getId())).isEqualTo(200);
+        assertThat(saved.getLastActivityAt()).isBetween(before, Instant.now());
+
+        ForumCategory stats = categoryRepository.findById(category.getId()).orElseThrow();
+        assertThat(stats.getThreadCount()).isEqualTo(1);
+        assertThat(stats.getReplyCount()).isEqualTo(200);
+        assertThat(stats.getLastActiveThreadId()).isEqualTo(thread.getId());
+    }
+
+    @Test
+    void cursorPagesListEveryThreadOnce() {
+        ForumCategory category = data.category();
+        User admin = data.user(User.Role.ADMIN);
+        List<UUID> created = IntStream.range(0, 7).mapToObj(i -> data.thread(category, admin).getId()).toList();
+        forumService.pinThread(created.get(3), admin);
+        ForumThread unset = ForumThread.builder().author(admin).title("No pin flag").body("Body").build();
+        unset.setIsPinned(null);
+        UUID unpinned = forumService.createThread(category.getSlug(), unset).getId();
+
+        List<UUID> listed = new ArrayList<>();
+        PageCursor after = PageCursor.start(true);
+        CursorPage<ForumThread> page;
+        do {
+            page = forumService.getThreadsByCategoryAfter(category, after, CursorPage.limit(3));
+            page.getContent().forEach(t -> listed.add(t.getId()));
+            after = PageCursor.decode(page.getNextCursor(), true);
+        } while (page.isHasNext());
+
+        assertThat(listed).hasSize(8).doesNotHaveDuplicates().contains(unpinned).containsAll(created);
+        assertThat(listed.get(0)).isEqualTo(created.get(3));
+    }
+
+    @Test
+    void categoriesVersionMovesWithTheCounters() {
+        ForumThread thread = data.thread(data.category(), data.user(User.Role.STUDENT));
+        String version = forumService.getCategoriesVersion().orElseThrow();
+
+        forumService.addReply(thread.getId(), ForumReply.builder().author(thread.getAuthor()).content("Reply").build());
+
+        assertThat(forumService.getCategoriesVersion()).isPresent().get().isNotEqualTo(version);
+    }
+
+    @Test
+    void parallelDeletesDecrementInPlace() throws Exception {
+        User admin = data.user(User.Role.ADMIN);
+        ForumThread thread = data.thread(data.category(), admin);
+        List<ForumReply> replies = TestData.inParallel(16, data.users(60, User.Role.STUDENT),
+                user -> forumService.addReply(thread.getId(), ForumReply.builder().author(user).content("Reply").build()));
+
+        TestData.inParallel(10, replies.subList(0, 10), reply -> {
+            forumService.deleteReply(reply.getId(), admin);
+            return reply;
+        });
+
+        assertThat(threadRepository.findById(thread.getId()).orElseThrow().getReplyCount()).isEqualTo(50);
+        assertThat(replyRepository.countByThreadId(thread.getId())).isEqualTo(50);
+    }
+
+    @Test
+    void reconcileRebuildsDriftedCategoryStats() {
+        ForumCategory category = data.category();
+        User author = data.user(User.Role.STUDENT);
+        ForumThread thread = data.thread(category, author);
+        forumService.addReply(thread.getId(), ForumReply.builder().author(author).content("Only reply").build());
+        jdbcTemplate.update("update forum_categories set thread_count = 9, reply_count = 0, last_active_thread_id = null "
+                + "where id = ?", category.getId());
+
+        forumService.reconcileCategoryStats();
+
+        ForumCategory stats = categoryRepository.findById(category.getId()).orElseThrow();
+        assertThat(stats.getThreadCount()).isEqualTo(1);
+        assertThat(stats.getReplyCount()).isEqualTo(1);
+        assertThat(stats.getLastActiveThreadId()).isEqualTo(thread.getId());
+    }
+
+    @Test
+    void thousandParallelReplyLikesAreCountedExactly() throws Exception {
+        User author = data.user(User.Role.STUDENT);
+        ForumThread thread = data.thread(data.category(), author);
+        ForumReply reply = forumService.addReply(thread.getId(),
+                ForumReply.builder().author(author).content("Like me").build());
+        List<User> likers = data.users(1000, User.Role.STUDENT);
+
+        TestData.inParallel(16, likers, user -> forumService.likeReply(reply.getId(), user));
+
+        assertThat(replyRepository.findLikeCount(reply.getId())).contains(1000);
+    }
+}
@@ -0,0 +1,72 @@
+package com.codenestai.ads.service;
+
+import com.codenestai.ads.Latency;
+import com.codenestai.ads.PostgresTest;
+import com.codenestai.ads.TestData;
+import com.codenestai.ads.dto.search.SearchCursor;
+import com.codenestai.ads.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Search latency over {@value #POSTS} posts, first page of each query shape. Post bodies draw 40
+ * words from a 5,000-word vocabulary with a Zipf-like skew, so {@code term1} is in nearly every
+ * post and {@code term4000} in a few hundred; each title names one of 20,000 topics (50 posts
+ * apiece). Ids and timestamps are time-ordered like the UUIDv7 keys. Seeds once per database, so
+ * give it a database of its own; seeding takes a few minutes. Not a {@code *Test}, so
+ * {@code mvn test} skips it; run it by name:
+ *
+ * <pre>TEST_JDBC_URL=jdbc:postgresql://localhost:5432/ads_bench mvn test -Dtest=SearchBenchmark</pre>
+ */
+@PostgresTest
+class SearchBenchmark {
+
+    private static final int POSTS = 1_000_000;
+    private static final int BATCH = 100_000;
+
+    private static final Map<String, String> QUERIES = new LinkedHashMap<>();
+    static {
+        QUERIES.put("rare", "topic12345");
+        QUERIES.put("uncommon", "term4000");
+        QUERIES.put("common", "term1");
+        QUERIES.put("common AND common", "term2 term3");
+        QUERIES.put("common AND rare", "term1 topic777");
+        QUERIES.put("rare OR rare", "topic42 or topic4242");
+        QUERIES.put("no match", "nosuchword");
+    }
+
+    @Autowired SearchService searchService;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired TestData data;
+
+    @BeforeEach
+    void seed() {
+        int existing = jdbcTemplate.queryForObject("select count(*) from posts", Integer.class);
+        if (existing >= POSTS) return;
+        User author = data.user(User.Role.STUDENT);
+        for (int from = existing; from < POSTS; from += BATCH) {
+            jdbcTemplate.update("""
+                    insert into posts (id, author_id, title, content, type, like_count, created_at, updated_at)
+                    select (lpad(to_hex((extract(epoch from at) * 1000)::bigint), 12, '0')
+                                || substr(md5(random()::text), 13))::uuid,
+                           ?, 'Notes on topic' || (g % 20000), body, 'DISCUSSION', 0, at, at
+                    from (select g, now() - (? - g) * interval '1 second' as at,
+                                 (select string_agg('term' || floor(exp(random() * ln(5000)))::int, ' ')
+                                  from generate_series(1, 40) where g > 0) as body
+                          from generate_series(?, ?) g) s
+                    """, author.getId(), POSTS, from + 1, Math.min(from + BATCH, POSTS));
+        }
+        jdbcTemplate.execute("analyze posts");
+    }
+
+    @Test
+    void firstPageOfEachQueryShape() {
+        QUERIES.forEach((shape, query) -> System.out.printf("%-18s %-22s %s%n", shape, query,
+                Latency.of(10, 200, () -> searchService.search(query, null, SearchCursor.start(), 20))));
+    }
+}
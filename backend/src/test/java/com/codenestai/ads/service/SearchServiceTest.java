@@ -0,0 +1,75 @@
+package com.codenestai.ads.service;
+
+import com.codenestai.ads.PostgresTest;
+import com.codenestai.ads.TestData;
+import com.codenestai.ads.dto.CursorPage;
+import com.codenestai.ads.dto.search.SearchCursor;
+import com.codenestai.ads.dto.search.SearchHit;
+import com.codenestai.ads.model.ForumReply;
+import com.codenestai.ads.model.ForumThread;
+import com.codenestai.ads.model.Post;
+import com.codenestai.ads.model.User;
+import com.codenestai.ads.repository.PostRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@PostgresTest
+class SearchServiceTest {
+
+    @Autowired SearchService searchService;
+    @Autowired ForumService forumService;
+    @Autowired PostRepository postRepository;
+    @Autowired TestData data;
+
+    @Test
+    void replyOnlyMatchHeadlinesTheReply() {
+        String term = word();
+        User author = data.user(User.Role.STUDENT);
+        ForumThread thread = data.thread(data.category(), author);
+        forumService.addReply(thread.getId(), ForumReply.builder().author(author)
+                .content("The answer mentions " + term + " once").build());
+
+        List<SearchHit> hits = searchService.search(term, Set.of(SearchHit.Type.THREAD), SearchCursor.start(), 10)
+                .getContent();
+
+        assertThat(hits).singleElement().satisfies(hit -> {
+            assertThat(hit.getId()).isEqualTo(thread.getId());
+            assertThat(hit.getHeadline()).contains("<mark>" + term + "</mark>");
+        });
+    }
+
+    @Test
+    void cursorPagesNeitherSkipNorRepeat() {
+        String term = word();
+        User author = data.user(User.Role.STUDENT);
+        Set<UUID> posts = IntStream.range(0, 7)
+                .mapToObj(i -> postRepository.save(Post.builder().author(author).title("Post " + i)
+                        .content(term + " " + "again ".repeat(i)).build()).getId())
+                .collect(Collectors.toSet());
+
+        List<UUID> seen = new ArrayList<>();
+        SearchCursor after = SearchCursor.start();
+        CursorPage<SearchHit> page;
+        do {
+            page = searchService.search(term, Set.of(SearchHit.Type.POST), after, 3);
+            page.getContent().forEach(hit -> seen.add(hit.getId()));
+            if (page.isHasNext()) after = SearchCursor.decode(page.getNextCursor());
+        } while (page.isHasNext());
+
+        assertThat(seen).doesNotHaveDuplicates().containsExactlyInAnyOrderElementsOf(posts);
+    }
+
+    /** A made-up word no other row contains, so results are exactly this test's rows */
+    private static String word() {
+        return UUID.randomUUID().toString().replaceAll("[^a-f]", "").replace('e', 'q') + "zork";
+    }
+}
@@ -0,0 +1,51 @@
+package com.codenestai.ads.service;
+
+import com.codenestai.ads.PostgresTest;
+import com.codenestai.ads.TestData;
+import com.codenestai.ads.model.ForumCategory;
+import com.codenestai.ads.model.ForumThread;
+import com.codenestai.ads.model.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@PostgresTest
+class ThreadViewCounterTest {
+
+    @Autowired ThreadViewCounter viewCounter;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired TestData data;
+
+    @Test
+    void viewsRecordedDuringAFlushAreNeverLost() throws Exception {
+        ForumCategory category = data.category();
+        User author = data.user(User.Role.STUDENT);
+        List<UUID> threadIds = IntStream.range(0, 8).mapToObj(i -> data.thread(category, author).getId()).toList();
+        int recorders = 15;
+        int viewsEach = 20_000;
+
+        AtomicInteger recording = new AtomicInteger(recorders);
+        TestData.inParallel(recorders + 1, IntStream.rangeClosed(0, recorders).boxed().toList(), worker -> {
+            if (worker == 0) {
+                while (recording.get() > 0) viewCounter.flush();
+            } else {
+                for (int i = 0; i < viewsEach; i++) viewCounter.record(threadIds.get((worker + i) % threadIds.size()));
+                recording.decrementAndGet();
+            }
+            return null;
+        });
+        viewCounter.flush();
+
+        long total = threadIds.stream()
+                .mapToLong(id -> jdbcTemplate.queryForObject("select view_count from forum_threads where id = ?", Long.class, id))
+                .sum();
+        assertThat(total).isEqualTo((long) recorders * viewsEach);
+    }
+}
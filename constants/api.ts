@@ -131,6 +131,25 @@ export interface Course {
   instructor: User;
 }
 
+export interface CourseSummary {
+  id: string;
+  slug: string;
+  title: string;
+  shortDescription: string;
+  thumbnailUrl: string | null;
+  price: number;
+  currency: string;
+  level: Course['level'];
+  instructorName: string;
+  totalLessons: number;
+}
+
+/** GET /courses/:slug — the instructor is a public profile, without email or role */
+export interface CourseDetail extends Omit<Course, 'instructor'> {
+  previewVideoUrl: string | null;
+  instructor: Pick<User, 'id' | 'firstName' | 'lastName' | 'avatarUrl' | 'bio'>;
+}
+
 export interface Lesson {
   id: string;
   title: string;
@@ -175,6 +194,10 @@ export interface ForumCategory {
   description: string;
   iconUrl: string | null;
   orderIndex: number;
+  threadCount: number;
+  replyCount: number;
+  lastActivityAt: string | null;
+  lastActiveThreadId: string | null;
 }
 
 export interface ForumThread {
@@ -209,6 +232,23 @@ export interface Page<T> {
   last: boolean;
 }
 
+/** Keyset page — pass nextCursor back as `after` */
+export interface CursorPage<T> {
+  content: T[];
+  nextCursor: string | null;
+  hasNext: boolean;
+}
+
+export interface SearchHit {
+  type: 'COURSE' | 'POST' | 'THREAD';
+  id: string;
+  slug: string | null;
+  title: string;
+  /** Excerpt with matches wrapped in <mark>…</mark>; the rest is raw text */
+  headline: string;
+  rank: number;
+}
+
 // ─── API surface ──────────────────────────────────────────────────────────────
 
 export const api = {
@@ -230,9 +270,9 @@ export const api = {
 
   courses: {
     list: (page = 0, size = 20, level?: string) =>
-      get<Page<Course>>(`/courses?page=${page}&size=${size}${level ? `&level=${level}` : ''}`),
+      get<Page<CourseSummary>>(`/courses?page=${page}&size=${size}${level ? `&level=${level}` : ''}`),
 
-    get: (slug: string) => get<Course>(`/courses/${slug}`),
+    get: (slug: string) => get<CourseDetail>(`/courses/${slug}`),
 
     lessons: (id: string) => get<Lesson[]>(`/courses/${id}/lessons`),
   },
@@ -267,7 +307,7 @@ export const api = {
     create: (title: string, content: string, type: Post['type']) =>
       post<Post>('/community/posts', { title, content, type }, true),
 
-    like: (id: string) => post<Post>(`/community/posts/${id}/like`, {}),
+    like: (id: string) => post<{ likeCount: number }>(`/community/posts/${id}/like`, {}, true),
 
     addComment: (postId: string, content: string) =>
       post<PostComment>(`/community/posts/${postId}/comments`, { content }, true),
@@ -306,6 +346,14 @@ export const api = {
     accept: (replyId: string) =>
       post<ForumReply>(`/forum/replies/${replyId}/accept`, {}, true),
 
+    likeReply: (replyId: string) =>
+      post<{ likeCount: number }>(`/forum/replies/${replyId}/like`, {}, true),
+
     deleteReply: (replyId: string) => del<void>(`/forum/replies/${replyId}`, true),
   },
+
+  search: (q: string, after = '', types?: SearchHit['type'][]) =>
+    get<CursorPage<SearchHit>>(
+      `/search?q=${encodeURIComponent(q)}&after=${after}${types?.length ? `&types=${types.join(',')}` : ''}`
+    ),
 };